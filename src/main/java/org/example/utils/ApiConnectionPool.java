@@ -0,0 +1,180 @@
+package org.example.utils;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-wide keep-alive connection pool for REST Assured.
+ * REST Assured still creates a lightweight client per request, but every client
+ * shares one pooling connection manager, so TCP/TLS connections are reused across
+ * requests, test methods and test classes.
+ */
+@SuppressWarnings("deprecation") // REST Assured 5 requires the HttpClient 4 AbstractHttpClient API
+public class ApiConnectionPool {
+    private static PoolingClientConnectionManager connectionManager;
+    private static HttpClientConfig httpClientConfig;
+    private static final AtomicInteger peakLeased = new AtomicInteger();
+
+    /**
+     * HttpClientConfig backed by the shared pool, created on first use
+     */
+    public static synchronized HttpClientConfig getHttpClientConfig() {
+        if (httpClientConfig == null) {
+            PoolingClientConnectionManager manager = createConnectionManager();
+            connectionManager = manager;
+            ConnectionKeepAliveStrategy keepAliveStrategy = createKeepAliveStrategy();
+            int timeoutMillis = ConfigReader.getApiTimeout() * 1000;
+
+            httpClientConfig = HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> {
+                    DefaultHttpClient client = new DefaultHttpClient(manager);
+                    client.setKeepAliveStrategy(keepAliveStrategy);
+                    return client;
+                })
+                .setParam("http.connection.timeout", timeoutMillis)
+                .setParam("http.socket.timeout", timeoutMillis);
+
+            System.out.println("[HTTP POOL] Connection pool created: " + describeStats());
+        }
+        return httpClientConfig;
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PeakTrackingConnectionManager();
+        manager.setMaxTotal(ConfigReader.getApiPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(ConfigReader.getApiPoolMaxPerRoute());
+
+        // Per-host overrides, e.g. api.pool.route.limits=automationexercise.com=40,localhost=10
+        String routeLimits = ConfigReader.getProperty("api.pool.route.limits");
+        if (routeLimits != null && !routeLimits.trim().isEmpty()) {
+            for (String entry : routeLimits.split(",")) {
+                String[] parts = entry.trim().split("=");
+                if (parts.length != 2) {
+                    System.out.println("[WARNING] Ignoring invalid api.pool.route.limits entry: " + entry);
+                    continue;
+                }
+                int limit;
+                try {
+                    limit = Integer.parseInt(parts[1].trim());
+                } catch (NumberFormatException e) {
+                    limit = 0;
+                }
+                if (limit < 1) {
+                    System.out.println("[WARNING] Ignoring api.pool.route.limits entry without a positive limit: " + entry);
+                    continue;
+                }
+                manager.setMaxPerRoute(new HttpRoute(new HttpHost(parts[0].trim(), 443, "https"), null, true), limit);
+                manager.setMaxPerRoute(new HttpRoute(new HttpHost(parts[0].trim(), 80, "http")), limit);
+            }
+        }
+
+        return manager;
+    }
+
+    /**
+     * Honour the server's Keep-Alive timeout, otherwise keep idle connections for api.pool.keepalive seconds
+     */
+    private static ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        long defaultKeepAliveMillis = ConfigReader.getApiPoolKeepAlive() * 1000L;
+        return (response, context) -> {
+            BasicHeaderElementIterator iterator = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (iterator.hasNext()) {
+                HeaderElement element = iterator.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(Long.parseLong(element.getValue()) * 1000L, defaultKeepAliveMillis);
+                    } catch (NumberFormatException ignored) {
+                        // fall through to the configured default
+                    }
+                }
+            }
+            return defaultKeepAliveMillis;
+        };
+    }
+
+    /**
+     * Current pool statistics, or null when the pool has not been created
+     */
+    public static synchronized PoolStats getStats() {
+        if (connectionManager == null) {
+            return null;
+        }
+        PoolStats stats = connectionManager.getTotalStats();
+        peakLeased.accumulateAndGet(stats.getLeased(), Math::max);
+        return stats;
+    }
+
+    public static int getPeakLeased() {
+        return peakLeased.get();
+    }
+
+    /**
+     * One-line summary of the pool for logs and reports
+     */
+    public static String describeStats() {
+        PoolStats stats = getStats();
+        if (stats == null) {
+            return "not initialized";
+        }
+        return String.format("leased=%d, available=%d, pending=%d, max=%d, peak leased=%d",
+            stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax(), getPeakLeased());
+    }
+
+    /**
+     * Close all pooled connections
+     */
+    public static synchronized void shutdown() {
+        if (connectionManager != null) {
+            System.out.println("[HTTP POOL] Closing connection pool: " + describeStats());
+            connectionManager.shutdown();
+            connectionManager = null;
+            httpClientConfig = null;
+        }
+    }
+
+    /**
+     * Records the leased-connection peak right after each lease, so concurrent fan-out is
+     * measured without a lock on the request path
+     */
+    private static class PeakTrackingConnectionManager extends PoolingClientConnectionManager {
+
+        // No connection TTL: idle time is bounded by the keep-alive strategy, busy connections live on
+        PeakTrackingConnectionManager() {
+            super(SchemeRegistryFactory.createDefault());
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    peakLeased.accumulateAndGet(getTotalStats().getLeased(), Math::max);
+                    return connection;
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
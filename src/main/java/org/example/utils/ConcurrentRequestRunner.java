@@ -0,0 +1,107 @@
+package org.example.utils;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Fires many blocking REST Assured calls at once on virtual threads.
+ * Every input gets its own virtual thread; a semaphore caps how many requests
+ * are in flight so the target server is not flooded.
+ */
+public class ConcurrentRequestRunner {
+    private final int maxConcurrency;
+
+    public ConcurrentRequestRunner(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1 but was " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Runner limited by api.fanout.max.concurrency
+     */
+    public static ConcurrentRequestRunner fromConfig() {
+        return new ConcurrentRequestRunner(ConfigReader.getApiFanoutMaxConcurrency());
+    }
+
+    /**
+     * Execute one request per input and wait for all of them.
+     * Results are returned in input order; a failed call is reported in its result instead of aborting the batch.
+     */
+    public <T> List<TimedResponse<T>> runAll(Collection<T> inputs, Function<T, Response> request) {
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        List<Future<TimedResponse<T>>> futures = new ArrayList<>(inputs.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> execute(input, request, inFlight)));
+            }
+
+            List<TimedResponse<T>> results = new ArrayList<>(futures.size());
+            for (Future<TimedResponse<T>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for concurrent API requests", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Concurrent API request failed unexpectedly", e.getCause());
+        }
+    }
+
+    private <T> TimedResponse<T> execute(T input, Function<T, Response> request, Semaphore inFlight)
+            throws InterruptedException {
+        inFlight.acquire();
+        long start = System.nanoTime();
+        try {
+            Response response = request.apply(input);
+            return new TimedResponse<>(input, response, System.nanoTime() - start, null);
+        } catch (Exception e) {
+            return new TimedResponse<>(input, null, System.nanoTime() - start, e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Outcome of one request with its client-side latency
+     */
+    public static final class TimedResponse<T> {
+        private final T input;
+        private final Response response;
+        private final long elapsedNanos;
+        private final Exception error;
+
+        private TimedResponse(T input, Response response, long elapsedNanos, Exception error) {
+            this.input = input;
+            this.response = response;
+            this.elapsedNanos = elapsedNanos;
+            this.error = error;
+        }
+
+        public T getInput() { return input; }
+        public Response getResponse() { return response; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+        public Exception getError() { return error; }
+
+        public boolean isSuccess() {
+            return error == null && response != null;
+        }
+
+        public int getStatusCode() {
+            return response != null ? response.getStatusCode() : -1;
+        }
+    }
+}
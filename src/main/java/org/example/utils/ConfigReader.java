@@ -2,6 +2,8 @@ package org.example.utils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -31,6 +33,43 @@ public class ConfigReader {
         return properties.getProperty(key);
     }
 
+    /**
+     * Comma-separated property as a list of trimmed, non-empty entries
+     */
+    public static List<String> getListProperty(String key) {
+        List<String> entries = new ArrayList<>();
+        String value = getProperty(key);
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                if (!entry.trim().isEmpty()) {
+                    entries.add(entry.trim());
+                }
+            }
+        }
+        return entries;
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("[WARNING] Invalid " + key + " configuration, using default: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
     public static String getBrowser() {
         return getProperty("browser");
     }
@@ -51,6 +90,57 @@ public class ConfigReader {
         return Integer.parseInt(getProperty("explicit.wait"));
     }
 
+    /**
+     * "explicit" (default): implicit waits are off and all waiting goes through WaitHelper;
+     * "implicit": sessions also get implicit.wait
+     */
+    public static boolean isExplicitWaitStrategy() {
+        String strategy = getProperty("wait.strategy");
+        return strategy == null || strategy.trim().isEmpty() || !strategy.trim().equalsIgnoreCase("implicit");
+    }
+
+    public static long getWaitPollInitialMillis() {
+        return Math.max(1, getIntProperty("wait.poll.initial.ms", 25));
+    }
+
+    public static long getWaitPollMaxMillis() {
+        return Math.max(1, getIntProperty("wait.poll.max.ms", 500));
+    }
+
+    /**
+     * How long the DOM must go without mutations before WaitHelper.waitForPageStable treats it as stable
+     */
+    public static long getStableQuietMillis() {
+        return Math.max(0, getIntProperty("wait.stable.quiet.ms", 500));
+    }
+
+    /**
+     * How many times a page-object element is looked up again after going stale, per call
+     */
+    public static int getStaleRetries() {
+        return Math.max(0, getIntProperty("element.stale.retries", 2));
+    }
+
+    /**
+     * Let page objects navigate straight to an action's deep link instead of driving the UI
+     */
+    public static boolean isDeepLinkNavigation() {
+        return Boolean.parseBoolean(getProperty("navigation.deep.links"));
+    }
+
+    // Network blocking (Chrome DevTools Protocol)
+    public static boolean isNetworkBlockEnabled() {
+        return Boolean.parseBoolean(getProperty("network.block.enabled"));
+    }
+
+    public static List<String> getNetworkBlockUrls() {
+        return getListProperty("network.block.urls");
+    }
+
+    public static List<String> getNetworkBlockResourceTypes() {
+        return getListProperty("network.block.resource.types");
+    }
+
     public static int getPageLoadTimeout() {
         return Integer.parseInt(getProperty("page.load.timeout"));
     }
@@ -71,10 +161,209 @@ public class ConfigReader {
         return getProperty("screenshot.path");
     }
 
+    public static boolean isRecorderEnabled() {
+        return getBooleanProperty("recorder.enabled", false);
+    }
+
+    /**
+     * What the failure recorder captures: "screenshot" (PNG) or "dom" (page source)
+     */
+    public static String getRecorderMode() {
+        String mode = getProperty("recorder.mode");
+        return mode != null && mode.trim().equalsIgnoreCase("dom") ? "dom" : "screenshot";
+    }
+
+    public static long getRecorderIntervalMillis() {
+        return Math.max(100, getIntProperty("recorder.interval.ms", 1000));
+    }
+
+    public static int getRecorderWindowSeconds() {
+        return Math.max(1, getIntProperty("recorder.window.seconds", 10));
+    }
+
+    public static int getRecorderMaxMegabytes() {
+        return Math.max(1, getIntProperty("recorder.max.mb", 32));
+    }
+
+    public static boolean isScreenshotDedup() {
+        return getBooleanProperty("screenshot.dedup", true);
+    }
+
+    public static boolean isScreenshotAsync() {
+        return getBooleanProperty("screenshot.async", true);
+    }
+
+    /**
+     * Screenshot file format: "png" (as captured) or "jpg" (re-encoded at screenshot.jpeg.quality)
+     */
+    public static String getScreenshotFormat() {
+        String format = getProperty("screenshot.format");
+        if (format == null || format.trim().isEmpty()) {
+            return "png";
+        }
+        format = format.trim().toLowerCase();
+        if (format.equals("jpeg")) {
+            return "jpg";
+        }
+        if (!format.equals("png") && !format.equals("jpg")) {
+            System.out.println("[WARNING] Unsupported screenshot.format " + format + ", using default: png");
+            return "png";
+        }
+        return format;
+    }
+
+    public static int getScreenshotJpegQuality() {
+        return getIntProperty("screenshot.jpeg.quality", 80);
+    }
+
+    public static int getScreenshotMaxKeep() {
+        return Math.max(1, getIntProperty("screenshot.max.keep", 3));
+    }
+
+    public static int getScreenshotQueueCapacity() {
+        return Math.max(1, getIntProperty("screenshot.queue.capacity", 16));
+    }
+
+    public static boolean isReportAsyncLogging() {
+        return getBooleanProperty("report.async.logging", true);
+    }
+
+    public static int getReportAsyncQueueCapacity() {
+        return getIntProperty("report.async.queue.capacity", 8192);
+    }
+
+    public static int getReportFlushIntervalSeconds() {
+        return getIntProperty("report.flush.interval", 60);
+    }
+
+    public static int getReportFlushEveryTests() {
+        return getIntProperty("report.flush.every.tests", 10);
+    }
+
+    public static boolean isReportAssetsExternal() {
+        return getBooleanProperty("report.assets.external", true);
+    }
+
+    public static boolean isReportJournalEnabled() {
+        return getBooleanProperty("report.journal.enabled", true);
+    }
+
+    public static String getReportJournalPath() {
+        String path = getProperty("report.journal.path");
+        return path != null && !path.trim().isEmpty() ? path.trim() : "test-output/journal/";
+    }
+
+    public static int getReportJournalMaxKeep() {
+        return getIntProperty("report.journal.max.keep", 20);
+    }
+
+    /**
+     * Name of this JVM's shard (-Dreport.shard overrides report.shard); defaults to the process id
+     */
+    public static String getReportShard() {
+        String shard = System.getProperty("report.shard", getProperty("report.shard"));
+        return shard != null && !shard.trim().isEmpty() ? shard.trim() : String.valueOf(ProcessHandle.current().pid());
+    }
+
     public static int getThreadCount() {
         return Integer.parseInt(getProperty("thread.count"));
     }
 
+    public static String getParallelMode() {
+        String mode = getProperty("parallel.mode");
+        return mode != null ? mode.trim() : "none";
+    }
+
+    public static int getUiThreadCount() {
+        return getIntProperty("ui.thread.count", getThreadCount());
+    }
+
+    public static int getApiThreadCount() {
+        return getIntProperty("api.thread.count", Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public static boolean isParallelTests() {
+        return getBooleanProperty("parallel.tests", false);
+    }
+
+    // WebDriver Pool Configuration
+    public static int getDriverPoolMaxSize() {
+        return getIntProperty("driver.pool.max.size", getUiThreadCount());
+    }
+
+    public static int getDriverPoolMaxSessionAge() {
+        return getIntProperty("driver.pool.max.session.age", 600);
+    }
+
+    public static int getDriverPoolMaxLeases() {
+        return getIntProperty("driver.pool.max.leases", 20);
+    }
+
+    /**
+     * Load a released session's start page in the background for the next test on it
+     */
+    public static boolean isDriverPoolPreloadEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.pool.preload.start.page"));
+    }
+
+    public static int getDriverPoolLeaseTimeout() {
+        return getIntProperty("driver.pool.lease.timeout", 120);
+    }
+
+    public static String getDriverCacheFile() {
+        String cacheFile = getProperty("driver.cache.file");
+        return cacheFile != null && !cacheFile.trim().isEmpty() ? cacheFile.trim() : ".driver-cache/chromedriver.properties";
+    }
+
+    // API HTTP Connection Pool Configuration
+    public static int getApiTimeout() {
+        return getIntProperty("api.timeout", 30);
+    }
+
+    public static int getApiPoolMaxTotal() {
+        return getIntProperty("api.pool.max.total", 100);
+    }
+
+    public static int getApiPoolMaxPerRoute() {
+        return getIntProperty("api.pool.max.per.route", 50);
+    }
+
+    public static int getApiPoolKeepAlive() {
+        return getIntProperty("api.pool.keepalive", 60);
+    }
+
+    public static int getApiFanoutMaxConcurrency() {
+        return getIntProperty("api.fanout.max.concurrency", 50);
+    }
+
+    public static int getApiSloWarmupCalls() {
+        return getIntProperty("api.slo.warmup", 2);
+    }
+
+    public static int getApiSloSampleCalls() {
+        return getIntProperty("api.slo.samples", 10);
+    }
+
+    public static boolean isLoadTestEnabled() {
+        return getBooleanProperty("load.test.enabled", false);
+    }
+
+    public static int getLoadTargetRps() {
+        return getIntProperty("load.target.rps", 10);
+    }
+
+    public static int getLoadRampUpSeconds() {
+        return getIntProperty("load.ramp.up", 10);
+    }
+
+    public static int getLoadDurationSeconds() {
+        return getIntProperty("load.duration", 60);
+    }
+
+    public static int getLoadMaxInFlight() {
+        return getIntProperty("load.max.in.flight", getApiFanoutMaxConcurrency());
+    }
+
     public static boolean isCIEnvironment() {
         return Boolean.parseBoolean(getProperty("ci.environment"));
     }
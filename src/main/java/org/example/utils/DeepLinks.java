@@ -0,0 +1,45 @@
+package org.example.utils;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Direct-URL fast path for page actions (navigation.deep.links).
+ * A page object declares the URL an action ends up on, e.g. "search?q={0}" for a search,
+ * and with deep links on it navigates there instead of driving the UI. Tests in the
+ * "ui-flow" group always drive the real UI, so the flow itself stays covered.
+ */
+public class DeepLinks {
+    public static final String UI_FLOW_GROUP = "ui-flow";
+    private static final ThreadLocal<Boolean> uiFlowRequired = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * True when the current test may take deep links instead of UI flows
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isDeepLinkNavigation() && !uiFlowRequired.get();
+    }
+
+    /**
+     * Force the real UI flow for the test running on this thread
+     */
+    public static void requireUiFlow(boolean required) {
+        uiFlowRequired.set(required);
+    }
+
+    public static void clear() {
+        uiFlowRequired.remove();
+    }
+
+    /**
+     * Fill {0}, {1} ... with URL-encoded values and resolve the result against base.url
+     */
+    public static String resolve(String template, String... values) {
+        String path = template;
+        for (int i = 0; i < values.length; i++) {
+            path = path.replace("{" + i + "}", URLEncoder.encode(values[i], StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return URI.create(ConfigReader.getBaseUrl()).resolve(path).toString();
+    }
+}
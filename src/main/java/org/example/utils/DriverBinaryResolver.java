@@ -0,0 +1,195 @@
+package org.example.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the chromedriver binary once per JVM and caches the result on disk.
+ * Later runs reuse the cached binary without any network access as long as the
+ * installed Chrome version has not changed.
+ */
+public class DriverBinaryResolver {
+    private static final String CHROME_DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+\\.\\d+\\.\\d+\\.\\d+)");
+
+    private static String chromeDriverPath;
+
+    /**
+     * Resolve the chromedriver path and register it with Selenium. Only the first call does any work.
+     */
+    public static synchronized String resolveChromeDriver() {
+        if (chromeDriverPath != null) {
+            return chromeDriverPath;
+        }
+
+        long start = System.currentTimeMillis();
+        String path = resolve();
+        System.setProperty(CHROME_DRIVER_PROPERTY, path);
+        chromeDriverPath = path;
+
+        System.out.println("[DRIVER] Using chromedriver " + path + " (resolved in "
+            + (System.currentTimeMillis() - start) + " ms)");
+        return path;
+    }
+
+    private static String resolve() {
+        // 1. Explicitly provisioned binary (e.g. baked into the build agent image)
+        String configuredPath = ConfigReader.getProperty("driver.chrome.path");
+        if (configuredPath != null && !configuredPath.trim().isEmpty()) {
+            if (new File(configuredPath.trim()).canExecute()) {
+                return configuredPath.trim();
+            }
+            System.err.println("[WARNING] driver.chrome.path is not executable: " + configuredPath);
+        }
+
+        File cacheFile = new File(ConfigReader.getDriverCacheFile());
+        Properties cache = loadCache(cacheFile);
+        String cachedDriver = cache.getProperty("driver.path");
+        String cachedChromeVersion = cache.getProperty("chrome.version");
+        String installedChromeVersion = detectChromeVersion();
+
+        // 2. Cache hit: same Chrome build as when the driver was resolved
+        if (isUsable(cachedDriver) && installedChromeVersion != null
+                && installedChromeVersion.equals(cachedChromeVersion)) {
+            System.out.println("[DRIVER] Cache hit for Chrome " + installedChromeVersion);
+            return cachedDriver;
+        }
+
+        // 3. Cache miss: resolve through WebDriverManager and remember the result
+        try {
+            WebDriverManager manager = WebDriverManager.chromedriver();
+            if (installedChromeVersion != null) {
+                manager.browserVersion(installedChromeVersion);
+            }
+            manager.setup();
+
+            String driverPath = manager.getDownloadedDriverPath();
+            saveCache(cacheFile, installedChromeVersion, driverPath, manager.getDownloadedDriverVersion());
+            return driverPath;
+        } catch (Exception e) {
+            System.err.println("[WARNING] chromedriver resolution failed: " + e.getMessage());
+        }
+
+        // 4. Offline fallback: a previously cached driver is better than none
+        if (isUsable(cachedDriver)) {
+            System.err.println("[WARNING] Falling back to cached chromedriver resolved for Chrome "
+                + cachedChromeVersion + " (installed: " + installedChromeVersion + ")");
+            return cachedDriver;
+        }
+
+        String driverOnPath = findOnPath(isWindows() ? "chromedriver.exe" : "chromedriver");
+        if (driverOnPath != null) {
+            System.err.println("[WARNING] Falling back to chromedriver found on PATH: " + driverOnPath);
+            return driverOnPath;
+        }
+
+        throw new RuntimeException("Unable to resolve chromedriver: no cached binary, no chromedriver on PATH "
+            + "and resolution failed. Set driver.chrome.path in config.properties for offline agents.");
+    }
+
+    /**
+     * Detect the installed Chrome version locally, without any network access
+     */
+    private static String detectChromeVersion() {
+        try {
+            Optional<Path> browserPath = WebDriverManager.chromedriver().getBrowserPath();
+            if (browserPath.isEmpty()) {
+                return null;
+            }
+
+            if (isWindows()) {
+                // chrome.exe does not print its version; the install folder contains a directory per version
+                File[] versionDirs = browserPath.get().getParent().toFile()
+                    .listFiles(file -> file.isDirectory() && VERSION_PATTERN.matcher(file.getName()).matches());
+                return versionDirs != null && versionDirs.length > 0 ? versionDirs[0].getName() : null;
+            }
+
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                .redirectErrorStream(true)
+                .start();
+            String output;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                output = reader.readLine();
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+
+            Matcher matcher = VERSION_PATTERN.matcher(output != null ? output : "");
+            return matcher.find() ? matcher.group(1) : null;
+        } catch (Exception e) {
+            System.err.println("[WARNING] Could not detect installed Chrome version: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Properties loadCache(File cacheFile) {
+        Properties cache = new Properties();
+        if (cacheFile.exists()) {
+            try (FileInputStream inputStream = new FileInputStream(cacheFile)) {
+                cache.load(inputStream);
+            } catch (IOException e) {
+                System.err.println("[WARNING] Ignoring unreadable driver cache " + cacheFile + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static void saveCache(File cacheFile, String chromeVersion, String driverPath, String driverVersion) {
+        if (chromeVersion == null || driverPath == null) {
+            return;
+        }
+
+        Properties cache = new Properties();
+        cache.setProperty("chrome.version", chromeVersion);
+        cache.setProperty("driver.path", driverPath);
+        cache.setProperty("driver.version", driverVersion != null ? driverVersion : "unknown");
+        cache.setProperty("resolved.at", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+
+        File parent = cacheFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (FileOutputStream outputStream = new FileOutputStream(cacheFile)) {
+            cache.store(outputStream, "Resolved chromedriver binary");
+        } catch (IOException e) {
+            System.err.println("[WARNING] Failed to write driver cache " + cacheFile + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isUsable(String driverPath) {
+        return driverPath != null && new File(driverPath).canExecute();
+    }
+
+    private static String findOnPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            File candidate = new File(dir, executable);
+            if (candidate.canExecute()) {
+                return candidate.getAbsolutePath();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase().contains("win");
+    }
+}
@@ -1,11 +1,20 @@
 package org.example.utils;
 
+import javax.activation.DataHandler;
 import javax.mail.*;
 import javax.mail.internet.*;
+import javax.mail.util.ByteArrayDataSource;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.example.utils.ConfigReader;
 
 /**
@@ -113,12 +122,20 @@ public class EmailNotifier {
             htmlPart.setContent(buildEmailBody(testName, passed, duration, timestamp), "text/html");
             multipart.addBodyPart(htmlPart);
 
-            // Add report attachment if exists
+            // Add report attachment if exists; a report linking the shared dashboard assets is zipped with them
             File reportFile = new File(reportPath);
             if (reportFile.exists()) {
                 MimeBodyPart attachmentPart = new MimeBodyPart();
-                attachmentPart.attachFile(reportFile);
-                attachmentPart.setFileName("TestReport_" + timestamp.replace(" ", "_").replace(":", "-") + ".html");
+                String attachmentName = "TestReport_" + timestamp.replace(" ", "_").replace(":", "-");
+                byte[] report = Files.readAllBytes(reportFile.toPath());
+                if (ReportAssets.isLinkedFrom(new String(report, StandardCharsets.UTF_8))) {
+                    attachmentPart.setDataHandler(new DataHandler(new ByteArrayDataSource(
+                        zipWithAssets(attachmentName + ".html", report), "application/zip")));
+                    attachmentPart.setFileName(attachmentName + ".zip");
+                } else {
+                    attachmentPart.attachFile(reportFile);
+                    attachmentPart.setFileName(attachmentName + ".html");
+                }
                 multipart.addBodyPart(attachmentPart);
             }
 
@@ -133,6 +150,24 @@ public class EmailNotifier {
         }
     }
 
+    /**
+     * Zip of the report and the asset files it links, laid out as in the report folder
+     */
+    static byte[] zipWithAssets(String reportName, byte[] report) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(reportName));
+            zip.write(report);
+            zip.closeEntry();
+            for (Map.Entry<String, byte[]> asset : ReportAssets.files().entrySet()) {
+                zip.putNextEntry(new ZipEntry(asset.getKey()));
+                zip.write(asset.getValue());
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
     /**
      * Build professional HTML email body
      */
@@ -0,0 +1,117 @@
+package org.example.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded multi-producer, single-consumer queue in front of the ExtentReports model.
+ * Test threads only offer events; one daemon thread applies them in arrival order, so
+ * parallel tests never contend on the reporter. When the queue is full the producer
+ * waits for space instead of dropping report entries.
+ */
+public class ExtentLogQueue {
+    private final BlockingQueue<Runnable> events;
+    private final Thread consumer;
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+
+    public ExtentLogQueue(int capacity) {
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.consumer = new Thread(this::consume, "extent-logger");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Enqueue an event; blocks only while the queue is full. Once the consumer has died the
+     * event is applied on the calling thread, so producers never block on a queue nobody drains.
+     */
+    public void submit(Runnable event) {
+        if (!consumer.isAlive()) {
+            applyDirectly(event);
+            return;
+        }
+        if (!events.offer(event)) {
+            stalls.increment();
+            try {
+                events.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while queueing report event", e);
+            }
+        }
+        int depth = events.size();
+        if (depth > peakDepth.get()) {
+            peakDepth.accumulateAndGet(depth, Math::max);
+        }
+    }
+
+    /**
+     * Enqueue an event only if there is room right now
+     */
+    public boolean trySubmit(Runnable event) {
+        return events.offer(event);
+    }
+
+    /**
+     * Wait until every event submitted before this call has been applied
+     */
+    public boolean awaitDrained(long timeout, TimeUnit unit) {
+        if (Thread.currentThread() == consumer) {
+            return true;
+        }
+        CountDownLatch drained = new CountDownLatch(1);
+        submit(drained::countDown);
+        try {
+            return drained.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            Runnable event;
+            try {
+                event = events.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            apply(event);
+        }
+    }
+
+    private synchronized void applyDirectly(Runnable event) {
+        apply(event);
+    }
+
+    private void apply(Runnable event) {
+        try {
+            event.run();
+            applied.increment();
+        } catch (Throwable t) {
+            // A broken entry (even an Error from the reporter) must not stop reporting for every other test
+            failures.increment();
+            System.err.println("[REPORT] Failed to apply report event: " + t);
+        }
+    }
+
+    public int getDepth() {
+        return events.size();
+    }
+
+    /**
+     * One-line summary for logs, e.g. "applied=1200, peak depth=35, producer stalls=0, failed=0"
+     */
+    public String describeStats() {
+        return String.format("applied=%d, peak depth=%d, producer stalls=%d, failed=%d",
+            applied.sum(), peakDepth.get(), stalls.sum(), failures.sum());
+    }
+}
@@ -1,23 +1,61 @@
 package org.example.utils;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ExtentReports manager for test reporting
+ * With report.async.logging enabled, test threads hand their log calls to an
+ * ExtentLogQueue and a single consumer thread updates the report model.
+ *
+ * The report is also written incrementally (every report.flush.interval seconds and
+ * every report.flush.every.tests finished tests) on a background thread. Spark renders
+ * into a staging file that is then moved over the report, so the report on disk is
+ * always a complete document even if the JVM dies mid-run.
+ *
+ * Every report event is also appended to a ResultsJournal (report.journal.path), from
+ * which JournalReportRenderer can regenerate the HTML and BaseTest builds its summaries.
  */
 public class ExtentManager {
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+    private static final long SHUTDOWN_DRAIN_SECONDS = 10;
+    private static final String STAGING_DIR = ".staging";
+
     private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static ExtentLogQueue logQueue;
+    private static ThreadLocal<TestLogger> test = new ThreadLocal<>();
     private static String reportPath;
+    private static String stagingPath;
+    private static ResultsJournal journal;
+
+    private static ScheduledExecutorService flushScheduler;
+    private static final Object REPORT_WRITE_LOCK = new Object();
+    private static final AtomicBoolean flushPending = new AtomicBoolean();
+    private static final AtomicBoolean flushRequestedAgain = new AtomicBoolean();
+    private static final AtomicBoolean finalFlushDone = new AtomicBoolean();
+    private static final AtomicInteger testsSinceFlush = new AtomicInteger();
+    private static final AtomicLong activity = new AtomicLong();
+    private static volatile long activityAtLastFlush = -1;
+    private static int flushEveryTests;
 
-    public static ExtentReports getInstance() {
+    public static synchronized ExtentReports getInstance() {
         if (extent == null) {
             createInstance();
         }
@@ -37,7 +75,53 @@ public class ExtentManager {
         // Clean up old reports before creating new one
         cleanupOldReports();
 
-        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        // Spark renders into the staging file; writeReport moves it over reportPath
+        stagingPath = ConfigReader.getReportPath() + STAGING_DIR + File.separator + new File(reportPath).getName();
+        new File(stagingPath).getParentFile().mkdirs();
+
+        extent = new ExtentReports();
+        extent.attachReporter(createSparkReporter(stagingPath, Paths.get(ConfigReader.getReportPath())));
+        
+        if (ConfigReader.isReportJournalEnabled()) {
+            // The shard suffix keeps forks started in the same second from colliding
+            String shard = ConfigReader.getReportShard();
+            journal = ResultsJournal.create(Paths.get(ConfigReader.getReportJournalPath(),
+                "results_" + timestamp + "_" + shard + ".jsonl"));
+            journal.suiteStarted(System.currentTimeMillis(), shard);
+            System.out.println("[REPORT] Results journal: " + journal.getPath());
+        }
+        
+        if (ConfigReader.isReportAsyncLogging()) {
+            logQueue = new ExtentLogQueue(ConfigReader.getReportAsyncQueueCapacity());
+            System.out.println("[REPORT] Asynchronous report logging enabled (queue capacity "
+                + ConfigReader.getReportAsyncQueueCapacity() + ")");
+        }
+        startIncrementalFlushing();
+        
+        // Enhanced System Information with Icons
+        setSystemInfo("🖥️ Operating System", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        setSystemInfo("☕ Java Version", System.getProperty("java.version"));
+        setSystemInfo("🌐 Browser", ConfigReader.getBrowser().toUpperCase());
+        setSystemInfo("🔗 Test Environment", ConfigReader.getBaseUrl());
+        setSystemInfo("👤 Executed By", System.getProperty("user.name"));
+        setSystemInfo("📅 Execution Date", new SimpleDateFormat("EEEE, MMMM dd, yyyy").format(new Date()));
+        setSystemInfo("⏰ Start Time", new SimpleDateFormat("HH:mm:ss").format(new Date()));
+        setSystemInfo("🏗️ Framework", "Selenium WebDriver + TestNG + Maven");
+        setSystemInfo("📋 Report Version", "Enhanced v2.0");
+    }
+    
+    /**
+     * Spark reporter with the dashboard styling; shared with JournalReportRenderer and ReportMerger
+     */
+    static ExtentSparkReporter createSparkReporter(String path) {
+        return createSparkReporter(path, Paths.get(path).toAbsolutePath().getParent());
+    }
+
+    /**
+     * Spark reporter for a report that will be published in reportDir (the staging file is moved there)
+     */
+    static ExtentSparkReporter createSparkReporter(String path, Path reportDir) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
         
         // Enhanced Theme and Styling - Use STANDARD for better readability
         sparkReporter.config().setTheme(Theme.STANDARD);
@@ -45,323 +129,221 @@ public class ExtentManager {
         sparkReporter.config().setReportName("📊 Test Execution Dashboard");
         sparkReporter.config().setTimeStampFormat("MMM dd, yyyy HH:mm:ss");
         
-        // Enhanced Styling with CSS
-        sparkReporter.config().setCss(getCustomCSS());
-        sparkReporter.config().setJs(getCustomJS());
+        // Dashboard styling: shared hashed asset files, or inline when external assets are off or unavailable
+        boolean externalAssets = ConfigReader.isReportAssetsExternal();
+        if (externalAssets) {
+            try {
+                ReportAssets.publish(reportDir);
+            } catch (RuntimeException e) {
+                System.err.println("[WARNING] " + e.getMessage() + ", inlining the report styling instead");
+                externalAssets = false;
+            }
+        }
+        sparkReporter.config().setCss(externalAssets ? ReportAssets.cssImport() : ReportAssets.inlineCss());
+        sparkReporter.config().setJs(externalAssets ? ReportAssets.jsLoader() : ReportAssets.inlineJs());
         
         // Report Configuration
         sparkReporter.config().setEncoding("utf-8");
         sparkReporter.config().setProtocol(com.aventstack.extentreports.reporter.configuration.Protocol.HTTPS);
-
-        extent = new ExtentReports();
-        extent.attachReporter(sparkReporter);
-        
-        // Enhanced System Information with Icons
-        extent.setSystemInfo("🖥️ Operating System", System.getProperty("os.name") + " " + System.getProperty("os.version"));
-        extent.setSystemInfo("☕ Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("🌐 Browser", ConfigReader.getBrowser().toUpperCase());
-        extent.setSystemInfo("🔗 Test Environment", ConfigReader.getBaseUrl());
-        extent.setSystemInfo("👤 Executed By", System.getProperty("user.name"));
-        extent.setSystemInfo("📅 Execution Date", new SimpleDateFormat("EEEE, MMMM dd, yyyy").format(new Date()));
-        extent.setSystemInfo("⏰ Start Time", new SimpleDateFormat("HH:mm:ss").format(new Date()));
-        extent.setSystemInfo("🏗️ Framework", "Selenium WebDriver + TestNG + Maven");
-        extent.setSystemInfo("📋 Report Version", "Enhanced v2.0");
+        return sparkReporter;
     }
     
+
+    public static TestLogger createTest(String testName) {
+        return createTest(testName, null);
+    }
+
+    public static TestLogger createTest(String testName, String description) {
+        ExtentReports reports = getInstance();
+        TestLogger testLogger = TestLogger.create(reports, logQueue, journal, testName, description);
+        test.set(testLogger);
+        activity.incrementAndGet();
+        return testLogger;
+    }
+
+    public static TestLogger getTest() {
+        return test.get();
+    }
+
     /**
-     * Custom CSS for enhanced visual styling
+     * Apply all queued report events, then write the final report
      */
-    private static String getCustomCSS() {
-        return """
-            /* Professional Report Styling for Better Readability */
-            body {
-                font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                background-color: #f8f9fa;
-                color: #212529;
-            }
-            
-            /* Header Enhancement */
-            .navbar-brand {
-                font-weight: 700;
-                color: #2c3e50 !important;
-                font-size: 1.5rem;
-            }
-            
-            .navbar {
-                background: linear-gradient(135deg, #667eea 0%, #764ba2 100%) !important;
-                box-shadow: 0 2px 10px rgba(0,0,0,0.1);
-            }
-            
-            /* Dashboard Cards with High Contrast */
-            .card-panel {
-                border-radius: 12px;
-                box-shadow: 0 4px 15px rgba(0,0,0,0.08);
-                border: 1px solid #e9ecef;
-                background-color: #ffffff;
-                transition: all 0.3s ease;
-                margin-bottom: 20px;
-            }
-            
-            .card-panel:hover {
-                transform: translateY(-3px);
-                box-shadow: 0 8px 25px rgba(0,0,0,0.15);
-            }
-            
-            /* High Contrast Status Styling */
-            .test-pass, .pass {
-                background-color: #28a745 !important;
-                color: #ffffff !important;
-                font-weight: 600 !important;
-                padding: 8px 16px !important;
-                border-radius: 6px !important;
-                border: 2px solid #1e7e34 !important;
-            }
-            
-            .test-fail, .fail {
-                background-color: #dc3545 !important;
-                color: #ffffff !important;
-                font-weight: 600 !important;
-                padding: 8px 16px !important;
-                border-radius: 6px !important;
-                border: 2px solid #c82333 !important;
-            }
-            
-            .test-skip, .skip {
-                background-color: #ffc107 !important;
-                color: #212529 !important;
-                font-weight: 600 !important;
-                padding: 8px 16px !important;
-                border-radius: 6px !important;
-                border: 2px solid #e0a800 !important;
-            }
-            
-            /* Test Content Readability */
-            .test-content {
-                background-color: #ffffff;
-                border: 1px solid #dee2e6;
-                border-radius: 8px;
-                padding: 20px;
-                margin: 15px 0;
-                line-height: 1.6;
-                color: #495057;
-            }
-            
-            /* Step Details with Better Contrast */
-            .step-details {
-                background-color: #f8f9fa;
-                border-left: 4px solid #007bff;
-                padding: 15px;
-                margin: 10px 0;
-                border-radius: 0 8px 8px 0;
-                color: #212529;
-                font-size: 14px;
-            }
-            
-            /* Dashboard Statistics Enhancement */
-            .dashboard-view .row {
-                margin: 20px 0;
-            }
-            
-            .stats-card {
-                background: linear-gradient(135deg, #4facfe 0%, #00f2fe 100%);
-                color: #ffffff;
-                border-radius: 15px;
-                padding: 25px;
-                text-align: center;
-                margin: 15px;
-                box-shadow: 0 8px 20px rgba(0,0,0,0.12);
-                border: 1px solid rgba(255,255,255,0.2);
-            }
-            
-            .stats-number {
-                font-size: 3em;
-                font-weight: 700;
-                margin-bottom: 8px;
-                text-shadow: 2px 2px 4px rgba(0,0,0,0.3);
-            }
-            
-            .stats-label {
-                font-size: 1.2em;
-                font-weight: 500;
-                opacity: 0.95;
-            }
-            
-            /* Progress Bar Professional Styling */
-            .progress {
-                height: 30px;
-                border-radius: 15px;
-                background-color: #e9ecef;
-                border: 1px solid #ced4da;
-                overflow: hidden;
-            }
-            
-            .progress-bar {
-                background: linear-gradient(45deg, #28a745, #20c997);
-                color: #ffffff;
-                font-weight: 600;
-                line-height: 30px;
-                text-align: center;
-            }
-            
-            /* Table Enhancements */
-            .table {
-                background-color: #ffffff;
-                border: 1px solid #dee2e6;
-                border-radius: 8px;
-                overflow: hidden;
-            }
-            
-            .table th {
-                background-color: #495057;
-                color: #ffffff;
-                font-weight: 600;
-                padding: 15px;
-                border: none;
-            }
-            
-            .table td {
-                padding: 12px 15px;
-                color: #495057;
-                border-color: #e9ecef;
-            }
-            
-            /* Log Messages Styling */
-            .log-message {
-                background-color: #f8f9fa;
-                border: 1px solid #e9ecef;
-                border-radius: 6px;
-                padding: 12px;
-                margin: 8px 0;
-                font-family: 'Courier New', monospace;
-                font-size: 13px;
-                color: #495057;
-            }
-            
-            /* Error Messages */
-            .error-message {
-                background-color: #f8d7da;
-                border: 1px solid #f5c6cb;
-                color: #721c24;
-                border-radius: 6px;
-                padding: 15px;
-                margin: 10px 0;
-                font-weight: 500;
-            }
-            
-            /* Success Messages */
-            .success-message {
-                background-color: #d4edda;
-                border: 1px solid #c3e6cb;
-                color: #155724;
-                border-radius: 6px;
-                padding: 15px;
-                margin: 10px 0;
-                font-weight: 500;
+    public static void flush() {
+        if (extent != null) {
+            finalFlushDone.set(true);
+            if (flushScheduler != null) {
+                flushScheduler.shutdownNow();
             }
-            
-            /* Responsive Design */
-            @media (max-width: 768px) {
-                .stats-card {
-                    margin: 10px 5px;
-                    padding: 20px;
-                }
-                
-                .stats-number {
-                    font-size: 2.5em;
-                }
-                
-                .card-panel {
-                    margin: 10px 0;
+            long activitySnapshot = activity.get();
+            if (logQueue != null) {
+                // Write on the consumer thread, after every event queued before this call
+                logQueue.submit(() -> {
+                    writeReport(activitySnapshot);
+                    closeJournal(true);
+                });
+                if (!logQueue.awaitDrained(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    System.err.println("[WARNING] Report queue not drained after " + DRAIN_TIMEOUT_SECONDS
+                        + "s, " + logQueue.getDepth() + " events pending");
                 }
+                System.out.println("[REPORT] Report queue: " + logQueue.describeStats());
+            } else {
+                writeReport(activitySnapshot);
+                closeJournal(true);
             }
-            """;
+        }
     }
-    
+
+    public static String getReportPath() {
+        return reportPath;
+    }
+
     /**
-     * Custom JavaScript for enhanced functionality
+     * Journal of the current run, or null when report.journal.enabled is off
      */
-    private static String getCustomJS() {
-        return """
-            // Enhanced Test Statistics Display
-            document.addEventListener('DOMContentLoaded', function() {
-                // Add animated counters for statistics
-                const stats = document.querySelectorAll('.stats-number');
-                stats.forEach(stat => {
-                    const target = parseInt(stat.textContent);
-                    let current = 0;
-                    const increment = target / 100;
-                    const timer = setInterval(() => {
-                        current += increment;
-                        if (current >= target) {
-                            current = target;
-                            clearInterval(timer);
-                        }
-                        stat.textContent = Math.floor(current);
-                    }, 20);
-                });
-                
-                // Add success rate calculation
-                setTimeout(() => {
-                    // Get the test statistics from ExtentReports dashboard elements
-                    const passElement = document.querySelector('p.text-pass')?.nextElementSibling;
-                    const failElement = document.querySelector('p.text-fail')?.nextElementSibling;
-                    
-                    const passedTests = passElement ? parseInt(passElement.textContent) || 0 : 0;
-                    const failedTests = failElement ? parseInt(failElement.textContent) || 0 : 0;
-                    const totalTests = passedTests + failedTests;
-                    const successRate = totalTests > 0 ? ((passedTests / totalTests) * 100).toFixed(1) : '0';
-                    
-                    console.log('ExtentReports Stats:', { passedTests, failedTests, totalTests, successRate });
-                    
-                    // Create success rate display
-                    const successRateElement = document.createElement('div');
-                    successRateElement.className = 'stats-card';
-                    successRateElement.innerHTML = `
-                        <div class="stats-number">${successRate}%</div>
-                        <div class="stats-label">Success Rate</div>
-                    `;
-                    
-                    // Find the container in the dashboard
-                    const dashboardRow = document.querySelector('.dashboard-view .row');
-                    if (dashboardRow) {
-                        dashboardRow.appendChild(successRateElement);
-                        console.log('Success rate card added with:', successRate + '%');
-                    } else {
-                        console.log('Dashboard container not found');
-                    }
-                }, 1500);
-            });
-            """;
+    public static Path getJournalPath() {
+        return journal != null ? journal.getPath() : null;
     }
 
-    public static ExtentTest createTest(String testName) {
-        ExtentTest extentTest = getInstance().createTest(testName);
-        test.set(extentTest);
-        return extentTest;
+    /**
+     * Add a system info entry to the report and the results journal
+     */
+    public static void setSystemInfo(String name, String value) {
+        getInstance().setSystemInfo(name, value);
+        if (journal != null) {
+            journal.systemInfo(name, value);
+        }
     }
 
-    public static ExtentTest createTest(String testName, String description) {
-        ExtentTest extentTest = getInstance().createTest(testName, description);
-        test.set(extentTest);
-        return extentTest;
+    /**
+     * Detach the current thread's report handle; called once per finished test
+     */
+    public static void removeTest() {
+        test.remove();
+        activity.incrementAndGet();
+        if (flushEveryTests > 0 && testsSinceFlush.incrementAndGet() >= flushEveryTests) {
+            testsSinceFlush.set(0);
+            requestFlush();
+        }
     }
 
-    public static ExtentTest getTest() {
-        return test.get();
+    private static void startIncrementalFlushing() {
+        flushEveryTests = ConfigReader.getReportFlushEveryTests();
+        int intervalSeconds = ConfigReader.getReportFlushIntervalSeconds();
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extent-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (intervalSeconds > 0) {
+            flushScheduler.scheduleWithFixedDelay(() -> {
+                if (activity.get() != activityAtLastFlush) {
+                    requestFlush();
+                }
+            }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+
+        // Leave the latest state on disk if the JVM exits before afterSuite flushes
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentManager::flushOnShutdown, "extent-flush-on-exit"));
+        System.out.println("[REPORT] Incremental report flushing: every " + intervalSeconds + "s and every "
+            + flushEveryTests + " tests (0 = off)");
     }
 
-    public static void flush() {
-        if (extent != null) {
-            extent.flush();
+    /**
+     * Schedule a background report write; never blocks the caller. Requests made while a write
+     * is pending are coalesced into one more write after it.
+     */
+    private static void requestFlush() {
+        if (finalFlushDone.get()) {
+            return;
+        }
+        if (!flushPending.compareAndSet(false, true)) {
+            flushRequestedAgain.set(true);
+            return;
+        }
+        // Taken before queueing: every event counted here is already ahead of the flush in the queue
+        long activitySnapshot = activity.get();
+        Runnable incrementalFlush = () -> {
+            try {
+                writeReport(activitySnapshot);
+            } finally {
+                flushPending.set(false);
+                if (flushRequestedAgain.getAndSet(false)) {
+                    requestFlush();
+                }
+            }
+        };
+
+        if (logQueue != null) {
+            // Serialized with the log events, so the model is never rendered mid-update
+            if (!logQueue.trySubmit(incrementalFlush)) {
+                flushPending.set(false);
+            }
+        } else {
+            try {
+                flushScheduler.execute(incrementalFlush);
+            } catch (RuntimeException e) {
+                flushPending.set(false);
+            }
         }
     }
 
-    public static String getReportPath() {
-        return reportPath;
+    /**
+     * Render to the staging file and atomically replace the report with it
+     */
+    private static void writeReport(long activitySnapshot) {
+        synchronized (REPORT_WRITE_LOCK) {
+            try {
+                extent.flush();
+                publishStagedReport();
+                activityAtLastFlush = activitySnapshot;
+            } catch (RuntimeException e) {
+                // Synchronous logging can modify the model while it renders; the next flush retries
+                System.err.println("[WARNING] Report flush failed: " + e);
+            }
+        }
     }
 
-    public static void removeTest() {
-        test.remove();
+    private static void publishStagedReport() {
+        Path staged = Paths.get(stagingPath);
+        Path target = Paths.get(reportPath);
+        if (!Files.exists(staged)) {
+            return;
+        }
+        try {
+            try {
+                Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("[WARNING] Failed to publish report " + target + ": " + e.getMessage());
+        }
+    }
+
+    private static void flushOnShutdown() {
+        if (extent == null || finalFlushDone.getAndSet(true)) {
+            return;
+        }
+        System.out.println("[REPORT] JVM exiting before the suite finished, writing partial report");
+        long activitySnapshot = activity.get();
+        if (logQueue != null) {
+            logQueue.submit(() -> writeReport(activitySnapshot));
+            logQueue.awaitDrained(SHUTDOWN_DRAIN_SECONDS, TimeUnit.SECONDS);
+        } else {
+            writeReport(activitySnapshot);
+        }
+        // No suite_end record: readers treat the journal as an interrupted run
+        closeJournal(false);
+    }
+
+    private static void closeJournal(boolean suiteCompleted) {
+        if (journal != null) {
+            if (suiteCompleted) {
+                journal.suiteFinished(System.currentTimeMillis());
+            }
+            journal.close();
+        }
     }
     
     /**
@@ -372,6 +354,8 @@ public class ExtentManager {
             System.out.println("[CLEANUP] Starting automatic report cleanup...");
             ReportCleanupManager.CleanupResult result = ReportCleanupManager.cleanupOldReportsFromConfig();
             System.out.println(result.getMessage());
+            System.out.println(ReportCleanupManager.cleanupOldMergedReportsFromConfig().getMessage());
+            // Journals are left to ReportMerger: other forks of this run may still be writing theirs
         } catch (Exception e) {
             System.err.println("[WARNING] Failed to cleanup old reports: " + e.getMessage());
             // Don't fail the test execution if cleanup fails
@@ -0,0 +1,228 @@
+package org.example.utils;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in flight recorder for UI tests (recorder.enabled).
+ * While a test runs, a screenshot or DOM snapshot (recorder.mode) is taken every
+ * recorder.interval.ms into a fixed-size ring buffer that holds the last
+ * recorder.window.seconds, capped at recorder.max.mb. Nothing touches the disk unless
+ * the test fails and saveTo writes the buffer as numbered frames plus an index.html.
+ * WebDriver sessions are not thread-safe, so tests drive the browser through getDriver(),
+ * which shares one lock with the capture task.
+ */
+public class FailureRecorder {
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger(1);
+    private static ScheduledExecutorService scheduler;
+
+    private final WebDriver driver;
+    private final Object driverLock = new Object();
+    private final boolean domMode;
+    private final long startedAt = System.currentTimeMillis();
+    private final Frame[] frames;
+    private final long maxBytes;
+    private int head = 0;
+    private int size = 0;
+    private long bytes = 0;
+    private int captureErrors = 0;
+    private boolean stopped = false;
+    private WebDriver serializedDriver;
+    private ScheduledFuture<?> task;
+
+    private FailureRecorder(WebDriver driver, boolean domMode, int capacity, long maxBytes) {
+        this.driver = driver;
+        this.domMode = domMode;
+        this.frames = new Frame[capacity];
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Start recording the given driver with the configured settings
+     */
+    public static FailureRecorder start(WebDriver driver) {
+        long intervalMillis = ConfigReader.getRecorderIntervalMillis();
+        int capacity = (int) Math.max(1, ConfigReader.getRecorderWindowSeconds() * 1000L / intervalMillis);
+        return start(driver, "dom".equals(ConfigReader.getRecorderMode()), intervalMillis, capacity,
+            ConfigReader.getRecorderMaxMegabytes() * 1024L * 1024L);
+    }
+
+    static FailureRecorder start(WebDriver driver, boolean domMode, long intervalMillis, int capacity, long maxBytes) {
+        FailureRecorder recorder = new FailureRecorder(driver, domMode, capacity, maxBytes);
+        recorder.task = getScheduler().scheduleWithFixedDelay(recorder::capture, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        return recorder;
+    }
+
+    /**
+     * The recorded session as the test must use it: every driver, element and navigation call
+     * holds the capture lock, so a frame is never taken in the middle of a test command
+     */
+    public synchronized WebDriver getDriver() {
+        if (serializedDriver == null) {
+            serializedDriver = new WebDriverDecorator<>() {
+                @Override
+                public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+                    synchronized (driverLock) {
+                        return super.call(target, method, args);
+                    }
+                }
+            }.decorate(driver);
+        }
+        return serializedDriver;
+    }
+
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, runnable -> {
+                Thread thread = new Thread(runnable, "failure-recorder-" + THREAD_IDS.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+
+    void capture() {
+        byte[] data;
+        try {
+            synchronized (driverLock) {
+                if (stopped) {
+                    return;
+                }
+                data = domMode
+                    ? driver.getPageSource().getBytes(StandardCharsets.UTF_8)
+                    : ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            }
+        } catch (RuntimeException e) {
+            // The test may be navigating or the session may be closing; the next tick tries again
+            synchronized (this) {
+                captureErrors++;
+            }
+            return;
+        }
+        add(new Frame(System.currentTimeMillis() - startedAt, data));
+    }
+
+    /**
+     * Overwrite the oldest frame, then drop more old frames while the buffer is over its byte cap
+     */
+    synchronized void add(Frame frame) {
+        int slot = (head + size) % frames.length;
+        if (size == frames.length) {
+            bytes -= frames[head].data.length;
+            head = (head + 1) % frames.length;
+        } else {
+            size++;
+        }
+        frames[slot] = frame;
+        bytes += frame.data.length;
+
+        while (bytes > maxBytes && size > 1) {
+            bytes -= frames[head].data.length;
+            frames[head] = null;
+            head = (head + 1) % frames.length;
+            size--;
+        }
+    }
+
+    /**
+     * Stop taking frames; must be called before the driver goes back to the pool.
+     * Waits for a capture that is already running, so the driver is idle when this returns.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        synchronized (driverLock) {
+            stopped = true;
+        }
+    }
+
+    /**
+     * Frames currently held, oldest first
+     */
+    public synchronized List<Frame> getFrames() {
+        List<Frame> snapshot = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            snapshot.add(frames[(head + i) % frames.length]);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Write the buffered frames to screenshot.path/recordings/&lt;testName&gt;_&lt;timestamp&gt;/ and return its index.html
+     */
+    public Path saveTo(String testName) {
+        stop();
+        List<Frame> snapshot = getFrames();
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        Path directory = Paths.get(ConfigReader.getScreenshotPath(), "recordings", testName + "_" + timestamp);
+        String extension = domMode ? "html" : "png";
+
+        StringBuilder index = new StringBuilder("<html><head><meta charset=\"utf-8\"><title>")
+            .append(testName).append("</title></head><body><h3>").append(testName).append(" - last ")
+            .append(snapshot.size()).append(" frames before failure</h3>");
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < snapshot.size(); i++) {
+                Frame frame = snapshot.get(i);
+                String fileName = String.format("frame_%03d_%06dms.%s", i + 1, frame.offsetMillis, extension);
+                Files.write(directory.resolve(fileName), frame.data);
+                index.append("<p>+").append(frame.offsetMillis).append(" ms</p>");
+                index.append(domMode
+                    ? "<p><a href=\"" + fileName + "\">" + fileName + "</a></p>"
+                    : "<img src=\"" + fileName + "\" style=\"max-width:100%;border:1px solid #ccc\">");
+            }
+            index.append("</body></html>");
+            Path indexFile = directory.resolve("index.html");
+            Files.writeString(indexFile, index, StandardCharsets.UTF_8);
+            return indexFile;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save recording to " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One-line summary for logs, e.g. "10 frames, 2.4 MB, capture errors=0"
+     */
+    public synchronized String describe() {
+        return String.format("%d frames, %.1f MB, capture errors=%d", size, bytes / (1024.0 * 1024.0), captureErrors);
+    }
+
+    /**
+     * One captured screenshot (PNG) or DOM snapshot (HTML), offset from the start of the test
+     */
+    public static final class Frame {
+        private final long offsetMillis;
+        private final byte[] data;
+
+        Frame(long offsetMillis, byte[] data) {
+            this.offsetMillis = offsetMillis;
+            this.data = data;
+        }
+
+        public long getOffsetMillis() { return offsetMillis; }
+        public byte[] getData() { return data; }
+    }
+}
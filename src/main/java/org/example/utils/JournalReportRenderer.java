@@ -0,0 +1,115 @@
+package org.example.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regenerates the HTML report from a results journal without re-running any test.
+ * Usage: java -cp ... org.example.utils.JournalReportRenderer &lt;journal.jsonl&gt; [report.html]
+ */
+public class JournalReportRenderer {
+
+    /**
+     * Replay the journal into a fresh ExtentReports model and write it with the dashboard styling
+     */
+    public static String render(Path journalPath, String outputPath) {
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(ExtentManager.createSparkReporter(outputPath));
+        Map<Long, ExtentTest> tests = new HashMap<>();
+        int records = 0;
+
+        try (ResultsJournal.Reader reader = ResultsJournal.read(journalPath)) {
+            while (reader.hasNext()) {
+                apply(extent, tests, reader.next());
+                records++;
+            }
+        }
+
+        extent.flush();
+        System.out.println("[REPORT] Rendered " + tests.size() + " tests (" + records + " journal records) from "
+            + journalPath + " to " + outputPath);
+        return outputPath;
+    }
+
+    /**
+     * Apply one journal record to the report model; test ids are resolved through the given map
+     */
+    static void apply(ExtentReports extent, Map<Long, ExtentTest> tests, JsonNode record) {
+        long timestamp = record.path("ts").asLong();
+        ExtentTest test = tests.get(record.path("test").asLong());
+
+        switch (record.path("type").asText()) {
+            case "system_info":
+                extent.setSystemInfo(record.path("name").asText(), record.path("value").asText());
+                break;
+            case "test_start":
+                String description = record.hasNonNull("description") ? record.get("description").asText() : null;
+                ExtentTest created = description == null
+                    ? extent.createTest(record.path("name").asText())
+                    : extent.createTest(record.path("name").asText(), description);
+                created.getModel().setStartTime(new Date(timestamp));
+                tests.put(record.path("test").asLong(), created);
+                break;
+            case "log":
+                if (test != null) {
+                    test.log(Status.valueOf(record.path("status").asText()), record.path("details").asText());
+                    TestLogger.setLastLogTimestamp(test, timestamp);
+                }
+                break;
+            case "media":
+                if (test != null) {
+                    String title = record.hasNonNull("title") ? record.get("title").asText() : null;
+                    test.addScreenCaptureFromPath(record.path("path").asText(), title);
+                }
+                break;
+            case "tags":
+                if (test != null) {
+                    String[] values = toArray(record.path("values"));
+                    switch (record.path("kind").asText()) {
+                        case "category":
+                            test.assignCategory(values);
+                            break;
+                        case "device":
+                            test.assignDevice(values);
+                            break;
+                        case "author":
+                            test.assignAuthor(values);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                break;
+            default:
+                // suite_start, result and suite_end carry no report content
+                break;
+        }
+    }
+
+    private static String[] toArray(JsonNode values) {
+        List<String> list = new ArrayList<>();
+        values.forEach(value -> list.add(value.asText()));
+        return list.toArray(new String[0]);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: JournalReportRenderer <journal.jsonl> [report.html]");
+            return;
+        }
+        Path journalPath = Paths.get(args[0]);
+        String outputPath = args.length > 1 ? args[1]
+            : ConfigReader.getReportPath() + "Rendered_" + journalPath.getFileName().toString().replace(".jsonl", ".html");
+        render(journalPath, outputPath);
+    }
+}
@@ -0,0 +1,254 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Validates a JSON payload in a single streaming pass over its input stream.
+ * No String copy or tree of the body is built, so large catalog responses can be
+ * checked in constant memory.
+ *
+ * Paths use dots for object keys and [] for array elements, e.g. "products",
+ * "products[]" or "products[].brand".
+ */
+public class JsonStreamValidator {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_REPORTED_VIOLATIONS = 10;
+
+    private final Map<String, PathRule> rules = new LinkedHashMap<>();
+
+    public static JsonStreamValidator create() {
+        return new JsonStreamValidator();
+    }
+
+    /**
+     * The path must occur at least once
+     */
+    public JsonStreamValidator expectKey(String path) {
+        rule(path).required = true;
+        return this;
+    }
+
+    /**
+     * Every array at the path must have between min and max elements (inclusive)
+     */
+    public JsonStreamValidator expectArraySize(String path, int min, int max) {
+        PathRule rule = rule(path);
+        rule.required = true;
+        rule.minSize = min;
+        rule.maxSize = max;
+        return this;
+    }
+
+    /**
+     * Every value at the path must be a scalar that satisfies the constraint; an object or array is a violation
+     */
+    public JsonStreamValidator expectField(String path, Predicate<Value> constraint, String description) {
+        PathRule rule = rule(path);
+        rule.required = true;
+        rule.constraint = constraint;
+        rule.constraintDescription = description;
+        return this;
+    }
+
+    /**
+     * Every scalar value at the path must equal the expected text
+     */
+    public JsonStreamValidator expectValue(String path, String expected) {
+        return expectField(path, value -> expected.equals(value.asText()), "equals '" + expected + "'");
+    }
+
+    private PathRule rule(String path) {
+        return rules.computeIfAbsent(path, PathRule::new);
+    }
+
+    /**
+     * Stream the input once and evaluate every rule. The stream is closed afterwards.
+     */
+    public Result validate(InputStream inputStream) {
+        Result result = new Result();
+        Deque<Container> containers = new ArrayDeque<>();
+        String fieldName = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                result.tokensScanned++;
+
+                if (token == JsonToken.FIELD_NAME) {
+                    fieldName = parser.getCurrentName();
+                    continue;
+                }
+
+                if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    Container closed = containers.pop();
+                    if (closed.array) {
+                        checkArraySize(closed, result);
+                    }
+                    continue;
+                }
+
+                // Every remaining token starts a value: resolve its path from the enclosing container
+                Container parent = containers.peek();
+                String path;
+                if (parent == null) {
+                    path = "";
+                } else if (parent.array) {
+                    parent.elements++;
+                    path = parent.path + "[]";
+                } else {
+                    path = parent.path.isEmpty() ? fieldName : parent.path + "." + fieldName;
+                }
+
+                PathRule rule = rules.get(path);
+                if (rule != null) {
+                    result.matches.merge(path, 1L, Long::sum);
+                    if (rule.minSize != null && token != JsonToken.START_ARRAY) {
+                        result.addViolation(path + ": expected an array but found " + token);
+                    }
+                    if (rule.constraint != null && (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY)) {
+                        result.addViolation(path + ": expected a scalar (" + rule.constraintDescription + ") but found "
+                            + (token == JsonToken.START_OBJECT ? "an object" : "an array"));
+                    }
+                }
+
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    containers.push(new Container(path, token == JsonToken.START_ARRAY));
+                } else if (rule != null && rule.constraint != null) {
+                    Value value = new Value(token, parser.getText());
+                    if (!rule.constraint.test(value)) {
+                        result.addViolation(path + ": value '" + value.asText() + "' does not satisfy "
+                            + rule.constraintDescription);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            result.addViolation("Malformed JSON after " + result.tokensScanned + " tokens: " + e.getMessage());
+            return result;
+        }
+
+        for (PathRule rule : rules.values()) {
+            if (rule.required && !result.matches.containsKey(rule.path)) {
+                result.addViolation(rule.path + ": not found in response");
+            }
+        }
+        return result;
+    }
+
+    private void checkArraySize(Container array, Result result) {
+        PathRule rule = rules.get(array.path);
+        if (rule == null || rule.minSize == null) {
+            return;
+        }
+        result.arraySizes.merge(array.path, (long) array.elements, Long::sum);
+        if (array.elements < rule.minSize || array.elements > rule.maxSize) {
+            result.addViolation(array.path + ": array has " + array.elements + " elements, expected "
+                + rule.minSize + ".." + rule.maxSize);
+        }
+    }
+
+    /**
+     * Scalar JSON value as seen by a field constraint
+     */
+    public static final class Value {
+        private final JsonToken token;
+        private final String text;
+
+        private Value(JsonToken token, String text) {
+            this.token = token;
+            this.text = text;
+        }
+
+        public boolean isNumber() { return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT; }
+        public boolean isString() { return token == JsonToken.VALUE_STRING; }
+        public boolean isBoolean() { return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE; }
+        public boolean isNull() { return token == JsonToken.VALUE_NULL; }
+        public boolean isNotBlank() { return !isNull() && text != null && !text.trim().isEmpty(); }
+        public String asText() { return text; }
+    }
+
+    /**
+     * Outcome of a validation pass: what matched and which rules were violated
+     */
+    public static final class Result {
+        private final Map<String, Long> matches = new LinkedHashMap<>();
+        private final Map<String, Long> arraySizes = new LinkedHashMap<>();
+        private final List<String> violations = new ArrayList<>();
+        private int violationCount = 0;
+        private long tokensScanned = 0;
+
+        private void addViolation(String violation) {
+            violationCount++;
+            if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+                violations.add(violation);
+            }
+        }
+
+        public boolean isValid() { return violationCount == 0; }
+        public int getViolationCount() { return violationCount; }
+        public List<String> getViolations() { return violations; }
+        public Map<String, Long> getMatches() { return matches; }
+        public long getTokensScanned() { return tokensScanned; }
+
+        /**
+         * Total elements across all arrays at the path
+         */
+        public long getArraySize(String path) {
+            return arraySizes.getOrDefault(path, 0L);
+        }
+
+        /**
+         * Human readable list of matched paths, e.g. "products (1), products[] (34 elements)"
+         */
+        public String getSummary() {
+            StringBuilder summary = new StringBuilder();
+            for (Map.Entry<String, Long> match : matches.entrySet()) {
+                if (summary.length() > 0) {
+                    summary.append(", ");
+                }
+                summary.append(match.getKey().isEmpty() ? "$" : match.getKey()).append(" (").append(match.getValue());
+                if (arraySizes.containsKey(match.getKey())) {
+                    summary.append(", ").append(arraySizes.get(match.getKey())).append(" elements");
+                }
+                summary.append(")");
+            }
+            summary.append(" - ").append(tokensScanned).append(" tokens scanned");
+            return summary.toString();
+        }
+    }
+
+    private static final class PathRule {
+        private final String path;
+        private boolean required;
+        private Integer minSize;
+        private Integer maxSize;
+        private Predicate<Value> constraint;
+        private String constraintDescription;
+
+        private PathRule(String path) {
+            this.path = path;
+        }
+    }
+
+    private static final class Container {
+        private final String path;
+        private final boolean array;
+        private int elements = 0;
+
+        private Container(String path, boolean array) {
+            this.path = path;
+            this.array = array;
+        }
+    }
+}
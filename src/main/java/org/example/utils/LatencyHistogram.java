@@ -0,0 +1,153 @@
+package org.example.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HDR-style latency histogram with fixed memory and bounded relative error.
+ * Values are bucketed log-linearly: each power-of-two range is split into
+ * 32 linear buckets, giving about 3% precision from 1 microsecond up to
+ * roughly 19 hours. Recording is lock-free and safe from any thread.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 30;
+    private static final long MAX_TRACKABLE_MICROS = (1L << (MAGNITUDES + SUB_BUCKET_BITS)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKETS + MAGNITUDES * (SUB_BUCKETS / 2));
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong(0);
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public void recordMillis(long millis) {
+        recordMicros(millis * 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_TRACKABLE_MICROS));
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        minMicros.accumulateAndGet(value, Math::min);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add every sample of another histogram to this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        if (other.getCount() > 0) {
+            minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+            maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+        }
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public double getMeanMillis() {
+        long count = getCount();
+        return count > 0 ? totalMicros.get() / 1000.0 / count : 0.0;
+    }
+
+    public double getMinMillis() {
+        return getCount() > 0 ? minMicros.get() / 1000.0 : 0.0;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    public double getTotalMillis() {
+        return totalMicros.get() / 1000.0;
+    }
+
+    /**
+     * Value at the given percentile (0-100) in milliseconds; never below min or above max
+     */
+    public double getPercentileMillis(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                long upper = bucketUpperBound(i);
+                return Math.max(getMinMillis(), Math.min(upper / 1000.0, getMaxMillis()));
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Compact HTML table of the distribution for ExtentReports
+     */
+    public String toHtmlTable(String title) {
+        StringBuilder html = new StringBuilder();
+        html.append("<table class='table'><tr><th colspan='2'>").append(title).append("</th></tr>");
+        appendRow(html, "Samples", String.valueOf(getCount()));
+        appendRow(html, "Min", formatMillis(getMinMillis()));
+        appendRow(html, "Mean", formatMillis(getMeanMillis()));
+        for (double percentile : new double[] {50, 90, 95, 99, 99.9}) {
+            appendRow(html, "p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                formatMillis(getPercentileMillis(percentile)));
+        }
+        appendRow(html, "Max", formatMillis(getMaxMillis()));
+        html.append("</table>");
+        return html.toString();
+    }
+
+    /**
+     * One-line summary, e.g. "n=20 p50=120.0ms p95=180.5ms p99=201.0ms max=201.3ms"
+     */
+    public String toSummary() {
+        return String.format("n=%d p50=%s p95=%s p99=%s max=%s", getCount(),
+            formatMillis(getPercentileMillis(50)), formatMillis(getPercentileMillis(95)),
+            formatMillis(getPercentileMillis(99)), formatMillis(getMaxMillis()));
+    }
+
+    private static void appendRow(StringBuilder html, String label, String value) {
+        html.append("<tr><td>").append(label).append("</td><td>").append(value).append("</td></tr>");
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format("%.1fms", millis);
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (micros >>> magnitude) - SUB_BUCKETS / 2;
+        return SUB_BUCKETS + (magnitude - 1) * (SUB_BUCKETS / 2) + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int offset = index - SUB_BUCKETS;
+        int magnitude = offset / (SUB_BUCKETS / 2) + 1;
+        int subBucket = offset % (SUB_BUCKETS / 2) + SUB_BUCKETS / 2;
+        return (((long) subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Latency objectives (p50/p95/p99 in milliseconds) for one API endpoint.
+ * Thresholds come from api.slo.&lt;endpoint&gt;.pXX in config.properties and fall back
+ * to api.slo.default.pXX; a threshold of 0 disables that percentile.
+ */
+public class LatencySlo {
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    private final String endpoint;
+    private final long[] thresholdsMillis;
+
+    public LatencySlo(String endpoint, long p50Millis, long p95Millis, long p99Millis) {
+        this.endpoint = endpoint;
+        this.thresholdsMillis = new long[] {p50Millis, p95Millis, p99Millis};
+    }
+
+    /**
+     * SLO for an endpoint path such as "/productsList" (config key api.slo.productsList.p95)
+     */
+    public static LatencySlo forEndpoint(String endpoint) {
+        String key = toConfigKey(endpoint);
+        return new LatencySlo(endpoint,
+            threshold(key, "p50"),
+            threshold(key, "p95"),
+            threshold(key, "p99"));
+    }
+
+    private static long threshold(String key, String percentile) {
+        int fallback = ConfigReader.getIntProperty("api.slo.default." + percentile, 0);
+        return ConfigReader.getIntProperty("api.slo." + key + "." + percentile, fallback);
+    }
+
+    private static String toConfigKey(String endpoint) {
+        String key = endpoint.startsWith("/") ? endpoint.substring(1) : endpoint;
+        return key.replace('/', '.');
+    }
+
+    /**
+     * Percentiles of the histogram that exceed their threshold; empty when the SLO is met
+     */
+    public List<String> findBreaches(LatencyHistogram histogram) {
+        List<String> breaches = new ArrayList<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            if (thresholdsMillis[i] <= 0) {
+                continue;
+            }
+            double actual = histogram.getPercentileMillis(PERCENTILES[i]);
+            if (actual > thresholdsMillis[i]) {
+                breaches.add(String.format("p%d=%.1fms exceeds %dms", (int) PERCENTILES[i], actual, thresholdsMillis[i]));
+            }
+        }
+        return breaches;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            if (thresholdsMillis[i] > 0) {
+                if (description.length() > 0) {
+                    description.append(", ");
+                }
+                description.append("p").append((int) PERCENTILES[i]).append(" <= ").append(thresholdsMillis[i]).append("ms");
+            }
+        }
+        return description.length() > 0 ? description.toString() : "no thresholds";
+    }
+}
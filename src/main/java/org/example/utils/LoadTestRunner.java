@@ -0,0 +1,283 @@
+package org.example.utils;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator for API request builders.
+ * A single scheduler thread only decides when requests are due (linear ramp-up to the
+ * target rate, then a constant rate) and hands them to virtual threads, so a slow
+ * server never slows down the arrival rate. Results are collected per second.
+ */
+public class LoadTestRunner {
+    private static final long TICK_MILLIS = 10;
+    // Extra time allowed past durationSeconds before a run that never finished is abandoned
+    private static final long FINISH_MARGIN_SECONDS = 30;
+
+    private final int targetRps;
+    private final int rampUpSeconds;
+    private final int durationSeconds;
+    private final int maxInFlight;
+
+    public LoadTestRunner(int targetRps, int rampUpSeconds, int durationSeconds, int maxInFlight) {
+        if (targetRps < 1 || durationSeconds < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("targetRps, durationSeconds and maxInFlight must be positive");
+        }
+        this.targetRps = targetRps;
+        this.rampUpSeconds = Math.max(0, Math.min(rampUpSeconds, durationSeconds));
+        this.durationSeconds = durationSeconds;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runner using load.target.rps, load.ramp.up, load.duration and load.max.in.flight
+     */
+    public static LoadTestRunner fromConfig() {
+        return new LoadTestRunner(ConfigReader.getLoadTargetRps(), ConfigReader.getLoadRampUpSeconds(),
+            ConfigReader.getLoadDurationSeconds(), ConfigReader.getLoadMaxInFlight());
+    }
+
+    /**
+     * Drive the named request builders round-robin at the configured rate and block until the run completes
+     */
+    public LoadTestResult run(Map<String, Supplier<Response>> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one load scenario is required");
+        }
+        List<Map.Entry<String, Supplier<Response>>> requests = new ArrayList<>(scenarios.entrySet());
+        LoadTestResult result = new LoadTestResult(targetRps, rampUpSeconds, durationSeconds);
+        AtomicInteger inFlight = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicReference<Throwable> schedulerFailure = new AtomicReference<>();
+
+        System.out.println("[LOAD] Starting load run: " + targetRps + " rps target, " + rampUpSeconds
+            + "s ramp-up, " + durationSeconds + "s duration, scenarios " + scenarios.keySet());
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long[] dispatched = {0};
+
+            scheduler.scheduleAtFixedRate(() -> {
+                try {
+                    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+                    if (elapsedSeconds >= durationSeconds) {
+                        finished.countDown();
+                        return;
+                    }
+
+                    long due = (long) expectedRequests(elapsedSeconds);
+                    while (dispatched[0] < due) {
+                        Map.Entry<String, Supplier<Response>> request = requests.get((int) (dispatched[0] % requests.size()));
+                        dispatched[0]++;
+                        int second = (int) elapsedSeconds;
+
+                        if (inFlight.incrementAndGet() > maxInFlight) {
+                            // Client saturated: record instead of queueing, so the arrival rate stays honest
+                            inFlight.decrementAndGet();
+                            result.window(second).dropped.increment();
+                            continue;
+                        }
+                        workers.submit(() -> execute(request, second, result, inFlight));
+                    }
+                } catch (Throwable t) {
+                    // An exception would silently cancel the periodic task, so end the run instead
+                    schedulerFailure.set(t);
+                    finished.countDown();
+                    throw t;
+                }
+            }, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+            boolean completed = finished.await(durationSeconds + FINISH_MARGIN_SECONDS, TimeUnit.SECONDS);
+            scheduler.shutdownNow();
+            if (schedulerFailure.get() != null) {
+                throw new RuntimeException("Load run aborted: scheduler failed", schedulerFailure.get());
+            }
+            if (!completed) {
+                throw new RuntimeException("Load run did not finish within " + (durationSeconds + FINISH_MARGIN_SECONDS) + "s");
+            }
+            // Closing the executor waits for in-flight requests to complete
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Load run interrupted", e);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        result.complete();
+        System.out.println("[LOAD] " + result.toSummary());
+        return result;
+    }
+
+    /**
+     * Requests that should have been sent after the given time: the integral of the ramped rate
+     */
+    double expectedRequests(double elapsedSeconds) {
+        if (rampUpSeconds == 0) {
+            return targetRps * elapsedSeconds;
+        }
+        if (elapsedSeconds <= rampUpSeconds) {
+            return targetRps * elapsedSeconds * elapsedSeconds / (2.0 * rampUpSeconds);
+        }
+        return targetRps * rampUpSeconds / 2.0 + targetRps * (elapsedSeconds - rampUpSeconds);
+    }
+
+    private void execute(Map.Entry<String, Supplier<Response>> request, int second, LoadTestResult result,
+                         AtomicInteger inFlight) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            Response response = request.getValue().get();
+            // Reading the body completes the download and returns the connection to the shared pool
+            response.asByteArray();
+            success = response.getStatusCode() < 400;
+        } catch (Exception e) {
+            success = false;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        result.record(request.getKey(), second, System.nanoTime() - start, success);
+    }
+
+    /**
+     * Throughput, error rate and latency of a load run, overall and per second
+     */
+    public static class LoadTestResult {
+        private final int targetRps;
+        private final int rampUpSeconds;
+        private final int durationSeconds;
+        private final LatencyHistogram overall = new LatencyHistogram();
+        private final Map<String, LatencyHistogram> perScenario = new ConcurrentHashMap<>();
+        private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final long startedAt = System.currentTimeMillis();
+        private long wallTimeMillis;
+
+        private LoadTestResult(int targetRps, int rampUpSeconds, int durationSeconds) {
+            this.targetRps = targetRps;
+            this.rampUpSeconds = rampUpSeconds;
+            this.durationSeconds = durationSeconds;
+        }
+
+        private Window window(int second) {
+            return windows.computeIfAbsent(second, s -> new Window());
+        }
+
+        private void record(String scenario, int second, long nanos, boolean success) {
+            overall.recordNanos(nanos);
+            perScenario.computeIfAbsent(scenario, s -> new LatencyHistogram()).recordNanos(nanos);
+            Window window = window(second);
+            window.latency.recordNanos(nanos);
+            if (!success) {
+                window.errors.increment();
+                errors.increment();
+            }
+        }
+
+        private void complete() {
+            wallTimeMillis = System.currentTimeMillis() - startedAt;
+            windows.values().forEach(window -> dropped.add(window.dropped.sum()));
+        }
+
+        public long getCompletedRequests() { return overall.getCount(); }
+        public long getErrors() { return errors.sum(); }
+        public long getDropped() { return dropped.sum(); }
+        public LatencyHistogram getLatency() { return overall; }
+        public Map<String, LatencyHistogram> getLatencyByScenario() { return perScenario; }
+
+        public double getThroughput() {
+            return wallTimeMillis > 0 ? getCompletedRequests() * 1000.0 / wallTimeMillis : 0.0;
+        }
+
+        /**
+         * Throughput over the steady-state part of the run, after ramp-up
+         */
+        public double getSteadyStateThroughput() {
+            long requests = 0;
+            int seconds = 0;
+            for (int second = rampUpSeconds; second < durationSeconds; second++) {
+                Window window = windows.get(second);
+                requests += window != null ? window.latency.getCount() : 0;
+                seconds++;
+            }
+            return seconds > 0 ? (double) requests / seconds : 0.0;
+        }
+
+        public double getErrorRate() {
+            long total = getCompletedRequests() + getDropped();
+            return total > 0 ? (getErrors() + getDropped()) * 100.0 / total : 0.0;
+        }
+
+        /**
+         * Per-second timeline: requests, errors, dropped and latency percentiles
+         */
+        public Map<Integer, String> getTimeline() {
+            Map<Integer, String> timeline = new LinkedHashMap<>();
+            for (int second = 0; second < durationSeconds; second++) {
+                Window window = windows.get(second);
+                if (window != null) {
+                    timeline.put(second, String.format("%d req, %d err, %d dropped, %s", window.latency.getCount(),
+                        window.errors.sum(), window.dropped.sum(), window.latency.toSummary()));
+                }
+            }
+            return timeline;
+        }
+
+        public String toSummary() {
+            return String.format("%d requests in %.1fs: %.1f rps (steady %.1f rps, target %d), error rate %.2f%%, %s",
+                getCompletedRequests(), wallTimeMillis / 1000.0, getThroughput(), getSteadyStateThroughput(),
+                targetRps, getErrorRate(), overall.toSummary());
+        }
+
+        /**
+         * HTML tables for ExtentReports: overall latency, per scenario and per-second timeline
+         */
+        public String toHtml() {
+            StringBuilder html = new StringBuilder();
+            html.append("<p><b>Load run:</b> ").append(toSummary()).append("</p>");
+            html.append(overall.toHtmlTable("Overall latency"));
+            perScenario.forEach((scenario, histogram) -> html.append(histogram.toHtmlTable("Latency " + scenario)));
+
+            html.append("<table class='table'><tr><th>Second</th><th>Requests</th><th>Errors</th><th>Dropped</th>")
+                .append("<th>p50</th><th>p95</th><th>p99</th></tr>");
+            for (int second = 0; second < durationSeconds; second++) {
+                Window window = windows.get(second);
+                if (window == null) {
+                    continue;
+                }
+                html.append(String.format("<tr><td>%d</td><td>%d</td><td>%d</td><td>%d</td><td>%.1fms</td><td>%.1fms</td><td>%.1fms</td></tr>",
+                    second, window.latency.getCount(), window.errors.sum(), window.dropped.sum(),
+                    window.latency.getPercentileMillis(50), window.latency.getPercentileMillis(95),
+                    window.latency.getPercentileMillis(99)));
+            }
+            html.append("</table>");
+            return html.toString();
+        }
+    }
+
+    private static class Window {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Blocks requests the tests do not need (ads, analytics, images, fonts ...) in a Chrome session
+ * through the DevTools protocol (network.block.*), and counts what was blocked, saved and transferred.
+ * URL patterns go to Network.setBlockedURLs and are dropped inside the browser; resource types
+ * are paused at the request stage via the Fetch domain and failed as BlockedByClient.
+ * A blocked request never gets a response, so the bytes it saved are estimated from the average
+ * size of loaded requests of its resource type in this suite, or a typical size for the type.
+ * Only raw CDP commands are used, so no version-specific devtools classes are needed.
+ */
+public class NetworkBlocker {
+    public static final Set<String> RESOURCE_TYPES = Set.of("Document", "Stylesheet", "Image", "Media", "Font",
+        "Script", "TextTrack", "XHR", "Fetch", "Prefetch", "EventSource", "WebSocket", "Manifest",
+        "SignedExchange", "Ping", "CSPViolationReport", "Preflight", "Other");
+
+    // Typical transfer sizes per resource type, used until the suite has loaded one of that type
+    private static final Map<String, Long> TYPICAL_BYTES = Map.of("Image", 40_000L, "Media", 500_000L,
+        "Font", 30_000L, "Script", 20_000L, "Stylesheet", 10_000L, "Document", 30_000L);
+    private static final long TYPICAL_BYTES_OTHER = 2_000L;
+
+    private static final Map<WebDriver, NetworkBlocker> installed = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, LongAdder> suiteBlocked = new ConcurrentHashMap<>();
+    private static final LongAdder suiteLoaded = new LongAdder();
+    private static final LongAdder suiteBytes = new LongAdder();
+    private static final LongAdder suiteSaved = new LongAdder();
+    private static final Map<String, LongAdder> loadedByType = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> bytesByType = new ConcurrentHashMap<>();
+
+    private final DevTools devTools;
+    // Resource type of each request in flight, to size blocked requests and attribute loaded bytes
+    private final Map<String, String> pendingTypes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> blocked = new ConcurrentHashMap<>();
+    private final LongAdder loaded = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder saved = new LongAdder();
+
+    private NetworkBlocker(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Apply the configured rules to a new session; returns null when blocking is off, has no rules
+     * or the browser does not speak CDP
+     */
+    public static NetworkBlocker install(WebDriver driver) {
+        if (!ConfigReader.isNetworkBlockEnabled()) {
+            return null;
+        }
+        List<String> urlPatterns = ConfigReader.getNetworkBlockUrls();
+        List<String> resourceTypes = new ArrayList<>();
+        for (String type : ConfigReader.getNetworkBlockResourceTypes()) {
+            if (RESOURCE_TYPES.contains(type)) {
+                resourceTypes.add(type);
+            } else {
+                System.out.println("[WARNING] Ignoring unknown network.block.resource.types entry: " + type);
+            }
+        }
+        return install(driver, urlPatterns, resourceTypes);
+    }
+
+    /**
+     * Apply the given URL patterns and (already validated) resource types; null when there are no rules
+     * or the browser does not speak CDP
+     */
+    static NetworkBlocker install(WebDriver driver, List<String> urlPatterns, List<String> resourceTypes) {
+        if (urlPatterns.isEmpty() && resourceTypes.isEmpty()) {
+            return null;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("[WARNING] Network blocking needs a Chrome DevTools session, skipped for " + driver.getClass().getSimpleName());
+            return null;
+        }
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkBlocker blocker = new NetworkBlocker(devTools);
+            blocker.start(urlPatterns, resourceTypes);
+            installed.put(driver, blocker);
+            System.out.println("[NETWORK] Blocking URLs " + urlPatterns + " and resource types " + resourceTypes);
+            return blocker;
+        } catch (RuntimeException e) {
+            // Pages still work unblocked, only slower
+            System.err.println("[WARNING] Failed to enable network blocking: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Blocker installed on the given session, or null
+     */
+    public static NetworkBlocker forDriver(WebDriver driver) {
+        return driver != null ? installed.get(driver) : null;
+    }
+
+    private void start(List<String> urlPatterns, List<String> resourceTypes) {
+        devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE)),
+            event -> {
+                if (event.get("requestId") != null && event.get("type") != null) {
+                    pendingTypes.put(String.valueOf(event.get("requestId")), String.valueOf(event.get("type")));
+                }
+            });
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+            event -> countLoaded(pendingTypes.remove(String.valueOf(event.get("requestId"))), event.get("encodedDataLength")));
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+            event -> {
+                pendingTypes.remove(String.valueOf(event.get("requestId")));
+                // "inspector" marks requests dropped by Network.setBlockedURLs
+                if ("inspector".equals(event.get("blockedReason"))) {
+                    countBlocked("URL rule", String.valueOf(event.get("type")));
+                }
+            });
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        if (!urlPatterns.isEmpty()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", urlPatterns)));
+        }
+
+        if (!resourceTypes.isEmpty()) {
+            devTools.addListener(new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    String type = String.valueOf(event.get("resourceType"));
+                    countBlocked(type, type);
+                    try {
+                        devTools.send(new Command<>("Fetch.failRequest",
+                            Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+                    } catch (RuntimeException e) {
+                        // The page navigated away and the request no longer exists
+                    }
+                });
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String type : resourceTypes) {
+                patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+            }
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+        }
+    }
+
+    private void countLoaded(String type, Object encodedDataLength) {
+        long length = encodedDataLength instanceof Number ? ((Number) encodedDataLength).longValue() : 0;
+        loaded.increment();
+        bytes.add(length);
+        suiteLoaded.increment();
+        suiteBytes.add(length);
+        if (type != null) {
+            loadedByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+            bytesByType.computeIfAbsent(type, key -> new LongAdder()).add(length);
+        }
+    }
+
+    private void countBlocked(String reason, String type) {
+        long estimate = estimateBytes(type);
+        blocked.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        saved.add(estimate);
+        suiteBlocked.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        suiteSaved.add(estimate);
+    }
+
+    /**
+     * Average loaded size of the resource type so far in the suite, else its typical size
+     */
+    private static long estimateBytes(String type) {
+        LongAdder count = loadedByType.get(type);
+        LongAdder total = bytesByType.get(type);
+        if (count != null && total != null && count.sum() > 0) {
+            return total.sum() / count.sum();
+        }
+        return TYPICAL_BYTES.getOrDefault(type, TYPICAL_BYTES_OTHER);
+    }
+
+    /**
+     * Counts since the last call (i.e. for the test that just ran on this session), then start over
+     */
+    public String describeAndReset() {
+        String summary = describe(blocked, saved.sum(), loaded.sum(), bytes.sum());
+        reset();
+        return summary;
+    }
+
+    /**
+     * Start this session's counts from zero, e.g. when a test leases it after a background preload
+     */
+    public void reset() {
+        blocked.values().forEach(LongAdder::reset);
+        saved.reset();
+        loaded.reset();
+        bytes.reset();
+    }
+
+    /**
+     * Totals over every session of the suite
+     */
+    public static String describeSuite() {
+        return describe(suiteBlocked, suiteSaved.sum(), suiteLoaded.sum(), suiteBytes.sum());
+    }
+
+    public static boolean hasSuiteActivity() {
+        return suiteLoaded.sum() > 0 || !suiteBlocked.isEmpty();
+    }
+
+    public static void resetSuite() {
+        suiteBlocked.clear();
+        suiteLoaded.reset();
+        suiteBytes.reset();
+        suiteSaved.reset();
+        loadedByType.clear();
+        bytesByType.clear();
+    }
+
+    /**
+     * e.g. "blocked 42 requests (Font 4, Image 30, URL rule 8), ~1.4 MB saved (est.), 95 requests loaded, 1.2 MB transferred"
+     */
+    private static String describe(Map<String, LongAdder> blockedCounts, long savedBytes, long loadedRequests, long transferred) {
+        Map<String, Long> sorted = new TreeMap<>();
+        blockedCounts.forEach((reason, count) -> {
+            if (count.sum() > 0) {
+                sorted.put(reason, count.sum());
+            }
+        });
+        long total = sorted.values().stream().mapToLong(Long::longValue).sum();
+        List<String> parts = new ArrayList<>();
+        sorted.forEach((reason, count) -> parts.add(reason + " " + count));
+        return String.format("blocked %d requests%s, ~%.1f MB saved (est.), %d requests loaded, %.1f MB transferred",
+            total, parts.isEmpty() ? "" : " (" + String.join(", ", parts) + ")", savedBytes / (1024.0 * 1024.0),
+            loadedRequests, transferred / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.utils;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Startup check for wait.strategy=explicit: page objects must wait through WaitHelper, so a
+ * page class may not look elements up with findElement/findElements directly (those calls
+ * only ever waited because of the implicit wait) or change the implicit wait itself. PageFactory
+ * is flagged as well: its @FindBy proxies call findElement on every access.
+ * Classes are checked by reading the method references and annotation descriptors in their
+ * class-file constant pool, without loading or initializing them.
+ */
+public class PageObjectValidator {
+    private static final Set<String> SELENIUM_LOOKUP_OWNERS = Set.of(
+        "org/openqa/selenium/WebDriver", "org/openqa/selenium/SearchContext", "org/openqa/selenium/WebElement",
+        "org/openqa/selenium/remote/RemoteWebDriver", "org/openqa/selenium/chrome/ChromeDriver",
+        "org/openqa/selenium/chromium/ChromiumDriver", "org/openqa/selenium/remote/RemoteWebElement");
+    private static final Set<String> LOOKUP_METHODS = Set.of("findElement", "findElements");
+    private static final String TIMEOUTS_OWNER = "org/openqa/selenium/WebDriver$Timeouts";
+    private static final String PAGE_FACTORY_OWNER = "org/openqa/selenium/support/PageFactory";
+    private static final Set<String> FIND_BY_DESCRIPTORS = Set.of("Lorg/openqa/selenium/support/FindBy;",
+        "Lorg/openqa/selenium/support/FindBys;", "Lorg/openqa/selenium/support/FindAll;");
+
+    /**
+     * Check every class of the package (and its subpackages); throws listing all violations
+     */
+    public static void validate(String packageName) {
+        List<String> violations = findViolations(packageName);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Page objects depend on implicit waits, which wait.strategy=explicit disables:\n  "
+                + String.join("\n  ", violations) + "\nUse WaitHelper with By locators (or set wait.strategy=implicit).");
+        }
+        System.out.println("[WAIT] Page objects in " + packageName + " use explicit waits only");
+    }
+
+    public static List<String> findViolations(String packageName) {
+        List<String> violations = new ArrayList<>();
+        for (String className : listClasses(packageName)) {
+            String resource = className.replace('.', '/') + ".class";
+            try (InputStream input = PageObjectValidator.class.getClassLoader().getResourceAsStream(resource)) {
+                if (input == null) {
+                    continue;
+                }
+                for (String call : findImplicitWaitCalls(new DataInputStream(input))) {
+                    violations.add(className + " calls " + call);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read " + resource, e);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Walk the constant pool and return the direct element lookups, implicit-wait changes and PageFactory use it references
+     */
+    static Set<String> findImplicitWaitCalls(DataInputStream in) throws IOException {
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classNameIndex = new int[count];
+        int[][] memberRefs = new int[count][]; // {class index, name-and-type index}
+        int[] nameAndTypeName = new int[count];
+
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                    memberRefs[i] = new int[] {in.readUnsignedShort(), in.readUnsignedShort()};
+                    break;
+                case 12: // NameAndType
+                    nameAndTypeName[i] = in.readUnsignedShort();
+                    in.readUnsignedShort();
+                    break;
+                case 9: // Fieldref
+                case 3: // Integer
+                case 4: // Float
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.readInt();
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.readLong();
+                    i++; // takes two slots
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.readUnsignedShort();
+                    break;
+                case 15: // MethodHandle
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        Set<String> calls = new TreeSet<>();
+        for (int[] ref : memberRefs) {
+            if (ref == null) {
+                continue;
+            }
+            String owner = utf8[classNameIndex[ref[0]]];
+            String name = utf8[nameAndTypeName[ref[1]]];
+            if (SELENIUM_LOOKUP_OWNERS.contains(owner) && LOOKUP_METHODS.contains(name)) {
+                calls.add(owner.substring(owner.lastIndexOf('/') + 1) + "." + name + " directly");
+            } else if (TIMEOUTS_OWNER.equals(owner) && name.equals("implicitlyWait")) {
+                calls.add("Timeouts.implicitlyWait");
+            } else if (PAGE_FACTORY_OWNER.equals(owner) && name.equals("initElements")) {
+                calls.add("PageFactory.initElements");
+            }
+        }
+        // Annotation type descriptors only appear as Utf8 entries
+        for (String value : utf8) {
+            if (value != null && FIND_BY_DESCRIPTORS.contains(value)) {
+                calls.add("@" + value.substring(value.lastIndexOf('/') + 1, value.length() - 1) + " element proxies");
+            }
+        }
+        return calls;
+    }
+
+    private static List<String> listClasses(String packageName) {
+        String path = packageName.replace('.', '/');
+        List<String> classes = new ArrayList<>();
+        try {
+            Enumeration<URL> roots = PageObjectValidator.class.getClassLoader().getResources(path);
+            for (URL root : Collections.list(roots)) {
+                if ("file".equals(root.getProtocol())) {
+                    collectFromDirectory(Paths.get(root.toURI()).toFile(), packageName, classes);
+                } else if ("jar".equals(root.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) root.openConnection();
+                    connection.setUseCaches(false);
+                    try (JarFile jar = connection.getJarFile()) {
+                        for (JarEntry entry : Collections.list(jar.entries())) {
+                            String name = entry.getName();
+                            if (name.startsWith(path + "/") && name.endsWith(".class")) {
+                                classes.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Failed to list classes in " + packageName, e);
+        }
+        return classes;
+    }
+
+    private static void collectFromDirectory(File directory, String packageName, List<String> classes) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collectFromDirectory(file, packageName + "." + file.getName(), classes);
+            } else if (file.getName().endsWith(".class")) {
+                classes.add(packageName + "." + file.getName().substring(0, file.getName().length() - ".class".length()));
+            }
+        }
+    }
+}
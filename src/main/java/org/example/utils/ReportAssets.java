@@ -0,0 +1,136 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dashboard CSS/JS for the Spark reports (src/main/resources/report-assets).
+ * With report.assets.external enabled the assets are written once per report directory
+ * as content-hashed files (assets/dashboard-&lt;hash&gt;.css|js) and every report only carries
+ * an @import and a one-line script loader, so reports stay small and browsers cache the
+ * assets. A changed asset gets a new hash, so older reports keep their own version.
+ */
+public class ReportAssets {
+    public static final String ASSETS_DIR = "assets";
+    private static final String RESOURCE_ROOT = "report-assets/";
+
+    private static final Asset CSS = Asset.load("dashboard", "css");
+    private static final Asset JS = Asset.load("dashboard", "js");
+    private static final Set<Path> publishedDirs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Write the hashed assets into reportDir/assets unless they are already there
+     */
+    public static void publish(Path reportDir) {
+        Path assetsDir = reportDir.toAbsolutePath().normalize().resolve(ASSETS_DIR);
+        if (publishedDirs.contains(assetsDir)) {
+            return;
+        }
+        try {
+            Files.createDirectories(assetsDir);
+            CSS.writeTo(assetsDir);
+            JS.writeTo(assetsDir);
+            publishedDirs.add(assetsDir);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to publish report assets to " + assetsDir, e);
+        }
+    }
+
+    /**
+     * Stylesheet for Spark's inline style block: an import of the published CSS file
+     */
+    public static String cssImport() {
+        return "@import url('" + ASSETS_DIR + "/" + CSS.fileName + "');";
+    }
+
+    /**
+     * Script for Spark's inline script block: loads the published JS file
+     */
+    public static String jsLoader() {
+        return "(function(){var s=document.createElement('script');s.src='" + ASSETS_DIR + "/" + JS.fileName
+            + "';document.body.appendChild(s);})();";
+    }
+
+    /**
+     * True if the report links the published asset files instead of carrying them inline
+     */
+    public static boolean isLinkedFrom(String reportHtml) {
+        return reportHtml.contains(cssImport()) || reportHtml.contains(jsLoader());
+    }
+
+    /**
+     * The published asset files by their path relative to the report, e.g. "assets/dashboard-&lt;hash&gt;.css"
+     */
+    public static Map<String, byte[]> files() {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put(ASSETS_DIR + "/" + CSS.fileName, CSS.bytes);
+        files.put(ASSETS_DIR + "/" + JS.fileName, JS.bytes);
+        return files;
+    }
+
+    public static String inlineCss() {
+        return CSS.content;
+    }
+
+    public static String inlineJs() {
+        return JS.content;
+    }
+
+    /**
+     * One classpath asset with its content hash
+     */
+    private static final class Asset {
+        private final String content;
+        private final byte[] bytes;
+        private final String fileName;
+
+        private Asset(String content, String fileName) {
+            this.content = content;
+            this.bytes = content.getBytes(StandardCharsets.UTF_8);
+            this.fileName = fileName;
+        }
+
+        private static Asset load(String name, String extension) {
+            String resource = RESOURCE_ROOT + name + "." + extension;
+            try (InputStream input = ReportAssets.class.getClassLoader().getResourceAsStream(resource)) {
+                if (input == null) {
+                    throw new IllegalStateException("Report asset not found on the classpath: " + resource);
+                }
+                byte[] bytes = input.readAllBytes();
+                String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)).substring(0, 12);
+                return new Asset(new String(bytes, StandardCharsets.UTF_8), name + "-" + hash + "." + extension);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new RuntimeException("Failed to load report asset " + resource, e);
+            }
+        }
+
+        /**
+         * Content-addressed, so an existing file is already correct; parallel JVMs race safely via rename
+         */
+        private void writeTo(Path assetsDir) throws IOException {
+            Path target = assetsDir.resolve(fileName);
+            if (Files.exists(target)) {
+                return;
+            }
+            Path temp = Files.createTempFile(assetsDir, fileName, ".tmp");
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -11,19 +11,27 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Utility class to manage report cleanup - keeps only the latest N reports
- * and automatically deletes older ones to save disk space
+ * and automatically deletes older ones to save disk space.
+ * The same rule applies to merged reports (report.max.keep) and, after a merge,
+ * to results journals (report.journal.max.keep).
  */
 public class ReportCleanupManager {
     
     private static final int DEFAULT_MAX_REPORTS = 3;
     private static final String REPORT_PREFIX = "Enhanced_AutomationReport_";
     private static final String REPORT_EXTENSION = ".html";
+    private static final String JOURNAL_EXTENSION = ".jsonl";
+    private static final String[] JOURNAL_PREFIXES = {"results_", "merged_"};
     
     /**
      * Cleans up old reports, keeping only the specified number of latest reports
@@ -33,6 +41,28 @@ public class ReportCleanupManager {
      * @return CleanupResult containing information about the cleanup operation
      */
     public static CleanupResult cleanupOldReports(String reportDirectory, int maxReportsToKeep) {
+        return cleanupOldFiles(reportDirectory, REPORT_PREFIX, REPORT_EXTENSION, maxReportsToKeep);
+    }
+    
+    /**
+     * Cleans up old files named prefix*extension, keeping only the specified number of latest files
+     * 
+     * @param reportDirectory The directory containing the files
+     * @param prefix File name prefix, e.g. "Merged_AutomationReport_"
+     * @param extension File name extension, e.g. ".html"
+     * @param maxReportsToKeep Maximum number of files to keep
+     * @return CleanupResult containing information about the cleanup operation
+     */
+    public static CleanupResult cleanupOldFiles(String reportDirectory, String prefix, String extension,
+                                                int maxReportsToKeep) {
+        return cleanupOldFiles(reportDirectory, prefix, extension, maxReportsToKeep, Set.of());
+    }
+    
+    /**
+     * Same as above, but the named files are neither counted nor deleted (e.g. journals of the current run)
+     */
+    public static CleanupResult cleanupOldFiles(String reportDirectory, String prefix, String extension,
+                                                int maxReportsToKeep, Set<String> protectedNames) {
         CleanupResult result = new CleanupResult();
         
         try {
@@ -48,11 +78,11 @@ public class ReportCleanupManager {
             
             // Get all report files
             File[] reportFiles = reportDir.listFiles((dir, name) -> 
-                name.startsWith(REPORT_PREFIX) && name.endsWith(REPORT_EXTENSION)
+                name.startsWith(prefix) && name.endsWith(extension) && !protectedNames.contains(name)
             );
             
             if (reportFiles == null || reportFiles.length == 0) {
-                result.setMessage("No reports found in directory: " + reportDirectory);
+                result.setMessage("No " + prefix + "*" + extension + " files found in directory: " + reportDirectory);
                 return result;
             }
             
@@ -60,8 +90,8 @@ public class ReportCleanupManager {
             
             // If we have fewer reports than the limit, no cleanup needed
             if (reportFiles.length <= maxReportsToKeep) {
-                result.setMessage(String.format("[INFO] Only %d report(s) found, no cleanup needed (keeping latest %d)", 
-                    reportFiles.length, maxReportsToKeep));
+                result.setMessage(String.format("[INFO] Only %d %s*%s file(s) found, no cleanup needed (keeping latest %d)", 
+                    reportFiles.length, prefix, extension, maxReportsToKeep));
                 return result;
             }
             
@@ -81,7 +111,7 @@ public class ReportCleanupManager {
             System.out.println("[CLEANUP] Reports being kept (latest " + maxReportsToKeep + "):");
             for (int i = 0; i < reportsToKeep.size(); i++) {
                 File report = reportsToKeep.get(i);
-                String timestamp = extractTimestampFromFilename(report.getName());
+                String timestamp = extractTimestampFromFilename(report.getName(), prefix, extension);
                 String formattedTime = formatTimestamp(timestamp);
                 System.out.println(String.format("  %d. %s (%s)", 
                     i + 1, report.getName(), formattedTime));
@@ -93,7 +123,7 @@ public class ReportCleanupManager {
                 
                 for (File report : reportsToDelete) {
                     try {
-                        String timestamp = extractTimestampFromFilename(report.getName());
+                        String timestamp = extractTimestampFromFilename(report.getName(), prefix, extension);
                         String formattedTime = formatTimestamp(timestamp);
                         
                         if (report.delete()) {
@@ -145,6 +175,48 @@ public class ReportCleanupManager {
         return cleanupOldReports(reportPath, maxReports);
     }
     
+    /**
+     * Cleans up old merged reports (ReportMerger output) using report.max.keep, with their shard pages
+     */
+    public static CleanupResult cleanupOldMergedReportsFromConfig() {
+        String reportPath = ConfigReader.getReportPath();
+        CleanupResult result = cleanupOldFiles(reportPath, ReportMerger.MERGED_REPORT_PREFIX, REPORT_EXTENSION,
+            getMaxReportsFromConfig());
+        for (String deleted : result.getDeletedReports()) {
+            deleteDirectory(ReportMerger.shardPagesDir(Paths.get(reportPath, deleted).toString()));
+        }
+        return result;
+    }
+    
+    private static void deleteDirectory(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.out.println("  [ERROR] Failed to delete " + directory + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Cleans up old shard and merged results journals using report.journal.max.keep.
+     * Only safe once every fork of the run has finished, so ReportMerger runs it after a merge;
+     * the journals of that merge are passed in and always kept.
+     */
+    public static List<CleanupResult> cleanupOldJournalsFromConfig(Collection<Path> currentRunJournals) {
+        Set<String> protectedNames = new HashSet<>();
+        for (Path journal : currentRunJournals) {
+            protectedNames.add(journal.getFileName().toString());
+        }
+        List<CleanupResult> results = new java.util.ArrayList<>();
+        for (String prefix : JOURNAL_PREFIXES) {
+            results.add(cleanupOldFiles(ConfigReader.getReportJournalPath(), prefix, JOURNAL_EXTENSION,
+                ConfigReader.getReportJournalMaxKeep(), protectedNames));
+        }
+        return results;
+    }
+    
     /**
      * Gets the maximum reports to keep from configuration, with fallback to default
      */
@@ -164,10 +236,10 @@ public class ReportCleanupManager {
      * Extracts timestamp from report filename
      * Example: Enhanced_AutomationReport_2025-09-15_23-04-49.html -> 2025-09-15_23-04-49
      */
-    private static String extractTimestampFromFilename(String filename) {
+    private static String extractTimestampFromFilename(String filename, String prefix, String extension) {
         try {
-            if (filename.startsWith(REPORT_PREFIX) && filename.endsWith(REPORT_EXTENSION)) {
-                return filename.substring(REPORT_PREFIX.length(), filename.length() - REPORT_EXTENSION.length());
+            if (filename.startsWith(prefix) && filename.endsWith(extension)) {
+                return filename.substring(prefix.length(), filename.length() - extension.length());
             }
         } catch (Exception e) {
             // If extraction fails, return the filename itself
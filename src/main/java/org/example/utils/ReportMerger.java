@@ -0,0 +1,377 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Merges the results journals of sharded or parallel JVMs into one consolidated report.
+ * The shard journals are read as a k-way merge ordered by record timestamp, so only one
+ * pending record per shard is held in memory, and the merged stream is written straight
+ * to a merged journal. Counters and timing are accumulated while streaming.
+ * The HTML output is a small index page with the combined counters that links one Spark
+ * page per shard (in a "_shards" folder next to it). Shard pages are rendered one at a time,
+ * so memory is bounded by the largest shard, never by the whole run.
+ *
+ * Usage: java -cp ... org.example.utils.ReportMerger &lt;journal.jsonl | directory&gt;...
+ */
+public class ReportMerger {
+    public static final String MERGED_REPORT_PREFIX = "Merged_AutomationReport_";
+    private static final String SHARD_JOURNAL_PREFIX = "results_";
+
+    // Per-shard summaries written by BaseTest; the merger replaces them with combined values
+    private static final Set<String> SHARD_SUMMARY_KEYS = Set.of("Total Tests", "Tests Passed", "Tests Failed",
+        "Tests Skipped", "Success Rate", "Suite Duration", "Test Results", "Execution Time", "⏰ Start Time");
+
+    /**
+     * Merge the given shard journals into mergedJournal and render the combined report to reportPath
+     */
+    public static MergeResult merge(List<Path> shardJournals, Path mergedJournal, String reportPath) {
+        if (shardJournals.isEmpty()) {
+            throw new IllegalArgumentException("No shard journals to merge");
+        }
+
+        Set<String> systemInfoSeen = new HashSet<>();
+        MergeResult result = new MergeResult(reportPath, mergedJournal);
+
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> heads = new PriorityQueue<>(
+            Comparator.comparingLong(Shard::headTimestamp).thenComparingInt(shard -> shard.index));
+
+        try (ResultsJournal out = ResultsJournal.create(mergedJournal)) {
+            try {
+                for (Path journal : shardJournals) {
+                    Shard shard = new Shard(shards.size(), journal, ResultsJournal.read(journal));
+                    shards.add(shard);
+                    if (shard.reader.hasNext()) {
+                        shard.head = shard.reader.next();
+                        heads.add(shard);
+                    }
+                }
+
+                boolean suiteStartWritten = false;
+                while (!heads.isEmpty()) {
+                    Shard shard = heads.poll();
+                    ObjectNode record = (ObjectNode) shard.head;
+                    shard.head = shard.reader.hasNext() ? shard.reader.next() : null;
+                    if (shard.head != null) {
+                        heads.add(shard);
+                    }
+                    result.records++;
+
+                    long timestamp = record.path("ts").asLong();
+                    shard.lastTimestamp = Math.max(shard.lastTimestamp, timestamp);
+                    switch (record.path("type").asText()) {
+                        case "suite_start":
+                            shard.name = record.hasNonNull("shard") ? record.get("shard").asText() : shard.name;
+                            shard.start = timestamp;
+                            result.suiteStart = result.suiteStart < 0 ? timestamp : Math.min(result.suiteStart, timestamp);
+                            if (!suiteStartWritten) {
+                                out.append(record.put("shard", "merged").put("shards", shardJournals.size()));
+                                suiteStartWritten = true;
+                            }
+                            continue;
+                        case "suite_end":
+                            shard.end = timestamp;
+                            continue;
+                        case "system_info":
+                            String name = record.path("name").asText();
+                            if (SHARD_SUMMARY_KEYS.contains(name) || !systemInfoSeen.add(name)) {
+                                continue;
+                            }
+                            break;
+                        case "result":
+                            shard.count(TestResultsAggregator.Status.valueOf(record.path("status").asText()),
+                                record.path("durationMillis").asLong());
+                            break;
+                        default:
+                            break;
+                    }
+
+                    if (record.has("test")) {
+                        // Test ids restart at 1 in every JVM; interleave them so they stay unique
+                        record.put("test", record.path("test").asLong() * shards.size() + shard.index);
+                    }
+                    out.append(record);
+
+                    if ("test_start".equals(record.path("type").asText()) && shards.size() > 1) {
+                        out.tags(record.path("test").asLong(), "category", "Shard " + shard.name);
+                    }
+                }
+            } finally {
+                shards.forEach(shard -> shard.reader.close());
+            }
+
+            for (Shard shard : shards) {
+                result.add(shard);
+            }
+            for (Map.Entry<String, String> info : result.describe().entrySet()) {
+                out.systemInfo(info.getKey(), info.getValue());
+            }
+            if (result.isComplete()) {
+                out.suiteFinished(result.suiteEnd);
+            }
+        }
+
+        // One report model at a time: each shard page holds only that shard's tests
+        Path shardPagesDir = shardPagesDir(reportPath);
+        for (Shard shard : shards) {
+            String page = "shard-" + (shard.index + 1) + "-" + shard.name.replaceAll("[^A-Za-z0-9._-]", "_") + ".html";
+            JournalReportRenderer.render(shard.path, shardPagesDir.resolve(page).toString());
+            shard.page = shardPagesDir.getFileName() + "/" + page;
+        }
+        writeIndex(Paths.get(reportPath), result, shards);
+
+        System.out.println("[REPORT] Merged " + shards.size() + " shard journal(s), " + result.getTotalTests()
+            + " tests (" + result.records + " records) into " + reportPath);
+        return result;
+    }
+
+    /**
+     * Folder holding the per-shard pages of a merged report, e.g. Merged_AutomationReport_&lt;ts&gt;_shards
+     */
+    public static Path shardPagesDir(String reportPath) {
+        Path report = Paths.get(reportPath).toAbsolutePath();
+        return report.resolveSibling(report.getFileName().toString().replace(".html", "") + "_shards");
+    }
+
+    /**
+     * Index page: combined counters and one row per shard linking its Spark page
+     */
+    private static void writeIndex(Path reportPath, MergeResult result, List<Shard> shards) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Merged Automation Report</title><style>")
+            .append("body{font-family:sans-serif;margin:24px}table{border-collapse:collapse;margin-bottom:24px}")
+            .append("td,th{border:1px solid #ddd;padding:6px 12px;text-align:left}th{background:#f4f4f4}")
+            .append("</style></head><body><h2>Merged Automation Report</h2><table>");
+        for (Map.Entry<String, String> info : result.describe().entrySet()) {
+            if (!info.getKey().startsWith("Shard ")) {
+                html.append("<tr><th>").append(escape(info.getKey())).append("</th><td>")
+                    .append(escape(info.getValue())).append("</td></tr>");
+            }
+        }
+        html.append("</table><table><tr><th>Shard</th><th>Result</th></tr>");
+        for (Shard shard : shards) {
+            html.append("<tr><td><a href=\"").append(escape(shard.page)).append("\">").append(escape(shard.name))
+                .append("</a></td><td>").append(escape(result.shardSummaries.get("Shard " + shard.name)))
+                .append("</td></tr>");
+        }
+        html.append("</table></body></html>");
+        try {
+            Files.createDirectories(reportPath.toAbsolutePath().getParent());
+            Files.write(reportPath, html.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write merged report index " + reportPath, e);
+        }
+    }
+
+    private static String escape(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+
+    /**
+     * Expand arguments into shard journals: files are taken as-is, directories contribute their results_*.jsonl files
+     */
+    public static List<Path> collectJournals(List<Path> inputs) {
+        List<Path> journals = new ArrayList<>();
+        for (Path input : inputs) {
+            if (!Files.isDirectory(input)) {
+                journals.add(input);
+                continue;
+            }
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(input, SHARD_JOURNAL_PREFIX + "*.jsonl")) {
+                stream.forEach(journals::add);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to list shard journals in " + input, e);
+            }
+        }
+        journals.sort(Comparator.naturalOrder());
+        return journals;
+    }
+
+    private static String formatDuration(long millis) {
+        long seconds = millis / 1000;
+        if (seconds < 60) {
+            return String.format("%.1fs", millis / 1000.0);
+        }
+        return String.format("%dm %ds", seconds / 60, seconds % 60);
+    }
+
+    /**
+     * Read cursor and counters of one shard journal
+     */
+    private static final class Shard {
+        private final int index;
+        private final Path path;
+        private final ResultsJournal.Reader reader;
+        private JsonNode head;
+        private String name;
+        private String page;
+        private long start = -1;
+        private long end = -1;
+        private long lastTimestamp = -1;
+        private long passed;
+        private long failed;
+        private long skipped;
+        private long testTime;
+
+        private Shard(int index, Path path, ResultsJournal.Reader reader) {
+            this.index = index;
+            this.path = path;
+            this.reader = reader;
+            this.name = path.getFileName().toString().replace(".jsonl", "");
+        }
+
+        private long headTimestamp() {
+            return head.path("ts").asLong();
+        }
+
+        private void count(TestResultsAggregator.Status status, long durationMillis) {
+            switch (status) {
+                case PASS:
+                    passed++;
+                    break;
+                case FAIL:
+                    failed++;
+                    break;
+                default:
+                    skipped++;
+                    break;
+            }
+            testTime += durationMillis;
+        }
+    }
+
+    /**
+     * Combined counters and timing of a merge
+     */
+    public static final class MergeResult {
+        private final String reportPath;
+        private final Path mergedJournal;
+        private final Map<String, String> shardSummaries = new LinkedHashMap<>();
+        private long records;
+        private long suiteStart = -1;
+        private long suiteEnd = -1;
+        private long passed;
+        private long failed;
+        private long skipped;
+        private long testTime;
+        private int shards;
+        private int interruptedShards;
+
+        private MergeResult(String reportPath, Path mergedJournal) {
+            this.reportPath = reportPath;
+            this.mergedJournal = mergedJournal;
+        }
+
+        private void add(Shard shard) {
+            shards++;
+            passed += shard.passed;
+            failed += shard.failed;
+            skipped += shard.skipped;
+            testTime += shard.testTime;
+            if (shard.end < 0) {
+                interruptedShards++;
+            }
+            long end = shard.end >= 0 ? shard.end : shard.lastTimestamp;
+            suiteEnd = Math.max(suiteEnd, end);
+            long shardTests = shard.passed + shard.failed + shard.skipped;
+            shardSummaries.put("Shard " + shard.name, String.format("%d tests, %d failed, %s%s", shardTests,
+                shard.failed, formatDuration(Math.max(0, end - shard.start)), shard.end < 0 ? " (interrupted)" : ""));
+        }
+
+        private Map<String, String> describe() {
+            Map<String, String> info = new LinkedHashMap<>();
+            info.put("Merged Shards", String.valueOf(shards));
+            info.put("Total Tests", String.valueOf(getTotalTests()));
+            info.put("Tests Passed", String.valueOf(passed));
+            info.put("Tests Failed", String.valueOf(failed));
+            info.put("Tests Skipped", String.valueOf(skipped));
+            info.put("Success Rate", String.format("%.1f%%", getSuccessRate()));
+            info.put("Suite Duration", formatDuration(getSuiteDuration()));
+            info.put("Total Test Time", formatDuration(testTime));
+            if (suiteStart >= 0) {
+                info.put("⏰ Start Time", new SimpleDateFormat("HH:mm:ss").format(new Date(suiteStart)));
+            }
+            info.putAll(shardSummaries);
+            return info;
+        }
+
+        public String getReportPath() { return reportPath; }
+        public Path getMergedJournal() { return mergedJournal; }
+        public int getShards() { return shards; }
+        public int getInterruptedShards() { return interruptedShards; }
+        public long getTotalTests() { return passed + failed + skipped; }
+        public long getPassedTests() { return passed; }
+        public long getFailedTests() { return failed; }
+        public long getSkippedTests() { return skipped; }
+        public long getTotalTestTime() { return testTime; }
+
+        /**
+         * Wall-clock time from the earliest shard start to the latest shard end
+         */
+        public long getSuiteDuration() {
+            return suiteStart >= 0 ? Math.max(0, suiteEnd - suiteStart) : 0;
+        }
+
+        public double getSuccessRate() {
+            return getTotalTests() == 0 ? 0.0 : (double) passed / getTotalTests() * 100;
+        }
+
+        public boolean isComplete() {
+            return interruptedShards == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d shards, %d tests: %d passed, %d failed, %d skipped (%.1f%%), suite %s, test time %s",
+                shards, getTotalTests(), passed, failed, skipped, getSuccessRate(),
+                formatDuration(getSuiteDuration()), formatDuration(testTime));
+        }
+    }
+
+    public static void main(String[] args) {
+        List<Path> inputs = new ArrayList<>();
+        for (String arg : args) {
+            inputs.add(Paths.get(arg));
+        }
+        if (inputs.isEmpty()) {
+            inputs.add(Paths.get(ConfigReader.getReportJournalPath()));
+        }
+
+        List<Path> journals = collectJournals(inputs);
+        if (journals.isEmpty()) {
+            System.out.println("Usage: ReportMerger <journal.jsonl | directory>... (no shard journals found in " + inputs + ")");
+            return;
+        }
+
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        Path mergedJournal = Paths.get(ConfigReader.getReportJournalPath(), "merged_" + timestamp + ".jsonl");
+        MergeResult result = merge(journals, mergedJournal,
+            ConfigReader.getReportPath() + MERGED_REPORT_PREFIX + timestamp + ".html");
+        System.out.println("[REPORT] " + result);
+        System.out.println("[REPORT] Merged journal: " + result.getMergedJournal());
+
+        System.out.println(ReportCleanupManager.cleanupOldMergedReportsFromConfig().getMessage());
+        List<Path> currentRun = new ArrayList<>(journals);
+        currentRun.add(mergedJournal);
+        ReportCleanupManager.cleanupOldJournalsFromConfig(currentRun).forEach(cleanup -> System.out.println(cleanup.getMessage()));
+    }
+}
@@ -0,0 +1,258 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Append-only results journal: one JSON object per line for every test event of a run.
+ * The file is written through a memory-mapped region, so an append is a memory copy and
+ * everything appended survives a JVM crash (the OS still owns the dirty pages). Unused
+ * mapped space is zero-filled and is trimmed on close; readers stop at the first NUL byte.
+ *
+ * Record types: suite_start, system_info, test_start, log, media, tags, result, suite_end.
+ */
+public class ResultsJournal implements Closeable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int REGION_SIZE = 1 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long position = 0;
+    private boolean closed = false;
+
+    private ResultsJournal(Path path) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        this.region = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_SIZE);
+    }
+
+    /**
+     * Create a new journal file; fails if the file already exists
+     */
+    public static ResultsJournal create(Path path) {
+        try {
+            return new ResultsJournal(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create results journal " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public void suiteStarted(long timestamp, String shard) {
+        append(record("suite_start", timestamp).put("shard", shard));
+    }
+
+    public void systemInfo(String name, String value) {
+        append(record("system_info", System.currentTimeMillis()).put("name", name).put("value", value));
+    }
+
+    /**
+     * @param thread name of the test's own thread; with async reporting this runs on the queue's consumer
+     */
+    public void testStarted(long testId, String name, String description, String thread, long timestamp) {
+        append(record("test_start", timestamp).put("test", testId).put("name", name)
+            .put("description", description).put("thread", thread));
+    }
+
+    public void log(long testId, String status, String details, long timestamp) {
+        append(record("log", timestamp).put("test", testId).put("status", status).put("details", details));
+    }
+
+    public void media(long testId, String mediaPath, String title) {
+        append(record("media", System.currentTimeMillis()).put("test", testId).put("path", mediaPath).put("title", title));
+    }
+
+    /**
+     * Category, device or author assignment; kind is "category", "device" or "author"
+     */
+    public void tags(long testId, String kind, String... values) {
+        ObjectNode node = record("tags", System.currentTimeMillis()).put("test", testId).put("kind", kind);
+        for (String value : values) {
+            node.withArray("values").add(value);
+        }
+        append(node);
+    }
+
+    public void result(long testId, String method, String className, TestResultsAggregator.Status status,
+                       long durationMillis, String error, long timestamp) {
+        append(record("result", timestamp).put("test", testId).put("method", method).put("class", className)
+            .put("status", status.name()).put("durationMillis", durationMillis).put("error", error));
+    }
+
+    public void suiteFinished(long timestamp) {
+        append(record("suite_end", timestamp));
+    }
+
+    private static ObjectNode record(String type, long timestamp) {
+        return MAPPER.createObjectNode().put("type", type).put("ts", timestamp);
+    }
+
+    /**
+     * Append one record as a line; remaps the next region when the current one is full
+     */
+    public synchronized void append(ObjectNode record) {
+        if (closed) {
+            return;
+        }
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(record);
+            int length = json.length + 1;
+            if (region.remaining() < length) {
+                region = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(REGION_SIZE, length));
+            }
+            region.put(json);
+            region.put((byte) '\n');
+            position += length;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to results journal " + path, e);
+        }
+    }
+
+    /**
+     * Force the written records to disk and trim the unused mapped space
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            region.force();
+            try {
+                channel.truncate(position);
+            } catch (IOException e) {
+                // Some platforms refuse to truncate a mapped file; readers ignore the zero padding
+                System.err.println("[WARNING] Could not trim results journal " + path + ": " + e.getMessage());
+            }
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[WARNING] Failed to close results journal " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the records of a journal in file order
+     */
+    public static Reader read(Path path) {
+        try {
+            return new Reader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open results journal " + path, e);
+        }
+    }
+
+    /**
+     * Rebuild suite results from a journal: one TestRecord per result record and the suite window
+     * from suite_start to suite_end (or to the last record of an interrupted run)
+     */
+    public static TestResultsAggregator replay(Path path) {
+        TestResultsAggregator aggregator = new TestResultsAggregator();
+        long suiteStart = -1;
+        long suiteEnd = -1;
+        long lastTimestamp = -1;
+
+        try (Reader reader = read(path)) {
+            while (reader.hasNext()) {
+                JsonNode record = reader.next();
+                long timestamp = record.path("ts").asLong();
+                lastTimestamp = Math.max(lastTimestamp, timestamp);
+                switch (record.path("type").asText()) {
+                    case "suite_start":
+                        suiteStart = timestamp;
+                        break;
+                    case "suite_end":
+                        suiteEnd = timestamp;
+                        break;
+                    case "result":
+                        aggregator.record(new TestResultsAggregator.TestRecord(
+                            record.path("method").asText(),
+                            record.path("class").asText(),
+                            TestResultsAggregator.Status.valueOf(record.path("status").asText()),
+                            record.path("durationMillis").asLong(),
+                            record.hasNonNull("error") ? record.get("error").asText() : null,
+                            timestamp));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (suiteStart >= 0) {
+            aggregator.setSuiteWindow(suiteStart, suiteEnd >= 0 ? suiteEnd : lastTimestamp);
+        }
+        return aggregator;
+    }
+
+    /**
+     * Line iterator over journal records; stops at the zero padding or at a torn final line
+     */
+    public static final class Reader implements Iterator<JsonNode>, Closeable {
+        private final BufferedReader reader;
+        private JsonNode next;
+
+        private Reader(BufferedReader reader) {
+            this.reader = reader;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            try {
+                String line = reader.readLine();
+                if (line == null || line.isEmpty() || line.charAt(0) == '\0') {
+                    return;
+                }
+                next = MAPPER.readTree(line);
+            } catch (IOException e) {
+                // A torn last record from a crash ends the journal
+                next = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public JsonNode next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            JsonNode current = next;
+            advance();
+            return current;
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+    }
+}
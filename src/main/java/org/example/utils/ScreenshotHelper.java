@@ -4,6 +4,16 @@ import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -12,41 +22,78 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility class for taking screenshots
+ * The test thread only grabs the PNG bytes from the driver; encoding (screenshot.format),
+ * the file write and retention (screenshot.max.keep) run on a small bounded writer pool.
+ * When screenshot.queue.capacity captures are pending the test thread writes its own
+ * screenshot, so memory stays bounded. shutdown() waits for pending writes.
+ * With screenshot.dedup enabled images go to a content-addressed ScreenshotStore.
  */
 public class ScreenshotHelper {
-    
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final AtomicInteger WRITER_IDS = new AtomicInteger(1);
+
+    private static ThreadPoolExecutor writer;
+    private static ScreenshotStore store;
+    private static boolean shutdownHookRegistered = false;
+    private static final LongAdder written = new LongAdder();
+    private static final LongAdder failures = new LongAdder();
+    private static final LongAdder callerWrites = new LongAdder();
+
+    /**
+     * Capture the current page; the file may still be written in the background
+     * @return path of the screenshot, or null when the driver could not take one
+     */
     public static String captureScreenshot(WebDriver driver, String testName) {
+        // Create screenshots directory if it doesn't exist
+        String screenshotDir = ConfigReader.getScreenshotPath();
+        File directory = new File(screenshotDir);
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+
+        // Take screenshot; this is the only part that needs the driver
+        byte[] png;
         try {
-            // Create screenshots directory if it doesn't exist
-            String screenshotDir = ConfigReader.getScreenshotPath();
-            File directory = new File(screenshotDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
+            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
+            png = takesScreenshot.getScreenshotAs(OutputType.BYTES);
+        } catch (RuntimeException e) {
+            // A crashed or closed session must not abort the caller's teardown
+            System.err.println("[WARNING] Failed to capture screenshot for " + testName + ": " + e.getMessage());
+            failures.increment();
+            return null;
+        }
+        String format = ConfigReader.getScreenshotFormat();
 
+        String filePath;
+        Runnable write;
+        if (ConfigReader.isScreenshotDedup()) {
+            // Named by content, so identical screenshots share one file
+            ScreenshotStore screenshotStore = getStore(screenshotDir);
+            String hash = ScreenshotStore.hash(png);
+            filePath = screenshotStore.objectPath(hash, format);
+            write = () -> storeScreenshot(screenshotStore, png, hash, filePath, format, testName);
+        } else {
             // Generate timestamp for unique filename
             String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-            String fileName = testName + "_" + timestamp + ".png";
-            String filePath = screenshotDir + fileName;
-
-            // Take screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            byte[] sourceFile = takesScreenshot.getScreenshotAs(OutputType.BYTES);
-            
-            // Save screenshot
-            Files.write(Paths.get(filePath), sourceFile);
-            
-            // Clean up old screenshots (keep only latest 3)
-            cleanupOldScreenshots(screenshotDir);
-            
-            return filePath;
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("Failed to capture screenshot: " + e.getMessage());
+            filePath = screenshotDir + testName + "_" + timestamp + "." + format;
+            write = () -> writeScreenshot(png, filePath, format, screenshotDir);
+        }
+        if (ConfigReader.isScreenshotAsync()) {
+            getWriter().execute(write);
+        } else {
+            write.run();
         }
+
+        // The path is final now even if the file is still being written
+        return filePath;
     }
 
     public static String captureScreenshotAsBase64(WebDriver driver) {
@@ -57,26 +104,171 @@ public class ScreenshotHelper {
     public static void captureScreenshotOnFailure(WebDriver driver, String testName) {
         try {
             String screenshotPath = captureScreenshot(driver, testName + "_FAILED");
-            System.out.println("Screenshot captured for failed test: " + screenshotPath);
+            if (screenshotPath != null) {
+                System.out.println("Screenshot captured for failed test: " + screenshotPath);
+            }
         } catch (Exception e) {
             System.err.println("Failed to capture screenshot on test failure: " + e.getMessage());
         }
     }
-    
+
+    /**
+     * Wait for pending screenshot writes and stop the writer threads; a later capture starts them again
+     */
+    public static void shutdown() {
+        ThreadPoolExecutor pool;
+        synchronized (ScreenshotHelper.class) {
+            pool = writer;
+            writer = null;
+        }
+        if (pool == null) {
+            compactStoreIndex();
+            return;
+        }
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[WARNING] " + pool.getQueue().size() + " screenshot(s) still pending after "
+                    + SHUTDOWN_TIMEOUT_SECONDS + "s, abandoning them");
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+        }
+        System.out.println("[SCREENSHOT] Writer stopped: " + describeStats());
+        compactStoreIndex();
+    }
+
+    private static void compactStoreIndex() {
+        ScreenshotStore screenshotStore;
+        synchronized (ScreenshotHelper.class) {
+            screenshotStore = store;
+            store = null;
+        }
+        if (screenshotStore != null) {
+            int entries = screenshotStore.compactIndex(ConfigReader.getScreenshotMaxKeep());
+            System.out.println("[SCREENSHOT] Store " + screenshotStore.describeStats() + ", index entries kept: " + entries);
+        }
+    }
+
+    /**
+     * One-line summary for logs, e.g. "written=4, written by test thread=0, failed=0"
+     */
+    public static String describeStats() {
+        return String.format("written=%d, written by test thread=%d, failed=%d",
+            written.sum(), callerWrites.sum(), failures.sum());
+    }
+
+    private static synchronized ThreadPoolExecutor getWriter() {
+        if (writer == null) {
+            int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+            writer = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ConfigReader.getScreenshotQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + WRITER_IDS.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    // Queue full (or shutting down): write on the test thread rather than drop the screenshot
+                    callerWrites.increment();
+                    task.run();
+                });
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotHelper::shutdown, "screenshot-shutdown"));
+                shutdownHookRegistered = true;
+            }
+        }
+        return writer;
+    }
+
+    private static void writeScreenshot(byte[] png, String filePath, String format, String screenshotDir) {
+        try {
+            Files.write(Paths.get(filePath), encode(png, format));
+            written.increment();
+
+            // Clean up old screenshots (keep only the latest screenshot.max.keep)
+            cleanupOldScreenshots(screenshotDir);
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            System.err.println("[ERROR] Failed to write screenshot " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static void storeScreenshot(ScreenshotStore screenshotStore, byte[] png, String hash, String filePath,
+                                        String format, String testName) {
+        try {
+            // Only the first capture of an image is encoded and written; repeats are just indexed.
+            // Objects are shared across tests and runs, so retention runs on the index at shutdown
+            if (screenshotStore.claim(testName, hash, filePath)) {
+                screenshotStore.write(hash, filePath, encode(png, format));
+                written.increment();
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            System.err.println("[ERROR] Failed to store screenshot " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] encode(byte[] png, String format) throws IOException {
+        return "png".equals(format) ? png : encodeJpeg(png, ConfigReader.getScreenshotJpegQuality());
+    }
+
+    private static synchronized ScreenshotStore getStore(String screenshotDir) {
+        if (store == null) {
+            store = new ScreenshotStore(screenshotDir);
+        }
+        return store;
+    }
+
+    /**
+     * Re-encode the driver's PNG as JPEG; quality is 1-100
+     */
+    private static byte[] encodeJpeg(byte[] png, int quality) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable PNG");
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+
+        ImageWriter jpegWriter = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = jpegWriter.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(Math.max(1, Math.min(100, quality)) / 100f);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            jpegWriter.setOutput(imageOutput);
+            jpegWriter.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            jpegWriter.dispose();
+        }
+        return output.toByteArray();
+    }
+
     /**
-     * Clean up old screenshots, keeping only the latest 3
+     * Clean up old screenshots, keeping only the latest screenshot.max.keep
      */
-    private static void cleanupOldScreenshots(String screenshotDir) {
+    private static synchronized void cleanupOldScreenshots(String screenshotDir) {
         try {
+            int maxKeep = ConfigReader.getScreenshotMaxKeep();
             File directory = new File(screenshotDir);
-            File[] files = directory.listFiles((dir, name) -> name.toLowerCase().endsWith(".png"));
-            
-            if (files != null && files.length > 3) {
+            File[] files = directory.listFiles((dir, name) -> {
+                String lower = name.toLowerCase();
+                return lower.endsWith(".png") || lower.endsWith(".jpg");
+            });
+
+            if (files != null && files.length > maxKeep) {
                 // Sort files by last modified date (newest first)
                 Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
-                
-                // Delete files beyond the latest 3
-                for (int i = 3; i < files.length; i++) {
+
+                // Delete files beyond the latest maxKeep
+                for (int i = maxKeep; i < files.length; i++) {
                     if (files[i].delete()) {
                         System.out.println("Deleted old screenshot: " + files[i].getName());
                     }
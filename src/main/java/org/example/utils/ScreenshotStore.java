@@ -0,0 +1,221 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed screenshot store under screenshot.path:
+ *   objects/&lt;sha256&gt;.png|jpg  one file per distinct image, named by the hash of the captured PNG
+ *   index.jsonl               one line per capture: run, test, hash, file, ts
+ * Identical screenshots (e.g. the same popup on many failures) are written once and referenced
+ * many times. Index appends and compaction are serialized in the JVM and hold a file lock,
+ * so parallel JVMs can share a store. Retention works on runs in the index: objects are only
+ * deleted once no retained run references them.
+ */
+public class ScreenshotStore {
+    public static final String OBJECTS_DIR = "objects";
+    public static final String INDEX_FILE = "index.jsonl";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RUN_ID = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date())
+        + "_" + ConfigReader.getReportShard();
+
+    private final String root;
+    private final Path objectsDir;
+    private final Path indexPath;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public ScreenshotStore(String root) {
+        this.root = root;
+        this.objectsDir = Paths.get(root, OBJECTS_DIR);
+        this.indexPath = Paths.get(root, INDEX_FILE);
+    }
+
+    /**
+     * Content hash of the captured image (hex SHA-256, first 128 bits)
+     */
+    public static String hash(byte[] image) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image)).substring(0, 32);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Path the report links for an image; valid before the object is written
+     */
+    public String objectPath(String hash, String format) {
+        return root + OBJECTS_DIR + "/" + hash + "." + format;
+    }
+
+    public Path getObjectsDir() {
+        return objectsDir;
+    }
+
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    /**
+     * Index a capture of this run and claim the right to write its object; false when the object
+     * already exists or another thread is writing it. The index entry is appended before the
+     * object is checked or written, both under the index lock that retention holds, so retention
+     * never deletes an object a capture is about to link.
+     */
+    public synchronized boolean claim(String testName, String hash, String objectPath) throws IOException {
+        String line = MAPPER.createObjectNode()
+            .put("run", RUN_ID)
+            .put("test", testName)
+            .put("hash", hash)
+            .put("file", objectPath)
+            .put("ts", System.currentTimeMillis())
+            + "\n";
+        Files.createDirectories(indexPath.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            FileLock lock = channel.lock();
+            try {
+                channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)));
+                if (Files.exists(Paths.get(objectPath)) || !pending.add(hash)) {
+                    deduplicated.increment();
+                    return false;
+                }
+                return true;
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Write a claimed object through a temp file, so the object path only ever holds a complete image
+     */
+    public void write(String hash, String objectPath, byte[] encoded) throws IOException {
+        try {
+            Files.createDirectories(objectsDir);
+            Path temp = Files.createTempFile(objectsDir, hash, ".tmp");
+            Files.write(temp, encoded);
+            try {
+                Files.move(temp, Paths.get(objectPath), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, Paths.get(objectPath), StandardCopyOption.REPLACE_EXISTING);
+            }
+            stored.increment();
+        } finally {
+            pending.remove(hash);
+        }
+    }
+
+    /**
+     * Retention: keep the index entries of this run and of the latest maxRuns runs, then delete
+     * the objects no kept entry references. Runs under the index lock, so it cannot interleave
+     * with claim; returns the entries kept, or -1 when the index could not be rewritten.
+     */
+    public synchronized int compactIndex(int maxRuns) {
+        if (!Files.exists(indexPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                InputStream input = Channels.newInputStream(channel);
+                String[] lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+                List<JsonNode> entries = new ArrayList<>();
+                Map<String, Long> lastCapture = new HashMap<>();
+                for (String line : lines) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        JsonNode entry = MAPPER.readTree(line);
+                        entries.add(entry);
+                        lastCapture.merge(entry.path("run").asText(), entry.path("ts").asLong(), Math::max);
+                    } catch (IOException e) {
+                        // torn line from a killed JVM
+                    }
+                }
+
+                Set<String> keptRuns = new HashSet<>();
+                keptRuns.add(RUN_ID);
+                lastCapture.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(Math.max(maxRuns, 0))
+                    .forEach(run -> keptRuns.add(run.getKey()));
+
+                ByteArrayOutputStream kept = new ByteArrayOutputStream();
+                Set<String> referenced = new HashSet<>();
+                int keptEntries = 0;
+                for (JsonNode entry : entries) {
+                    if (keptRuns.contains(entry.path("run").asText())) {
+                        kept.write((MAPPER.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+                        referenced.add(Paths.get(entry.path("file").asText()).getFileName().toString());
+                        keptEntries++;
+                    }
+                }
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(kept.toByteArray()), 0);
+
+                deleteUnreferencedObjects(referenced);
+                return keptEntries;
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            System.err.println("[WARNING] Failed to compact screenshot index " + indexPath + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    private void deleteUnreferencedObjects(Set<String> referenced) throws IOException {
+        if (!Files.isDirectory(objectsDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> objects = Files.newDirectoryStream(objectsDir, "*.{png,jpg}")) {
+            for (Path object : objects) {
+                String name = object.getFileName().toString();
+                if (!referenced.contains(name) && !pending.contains(name.substring(0, name.lastIndexOf('.')))) {
+                    Files.deleteIfExists(object);
+                    System.out.println("Deleted unreferenced screenshot: " + name);
+                }
+            }
+        }
+    }
+
+    /**
+     * One-line summary for logs, e.g. "stored=3, deduplicated=12"
+     */
+    public String describeStats() {
+        return String.format("stored=%d, deduplicated=%d", stored.sum(), deduplicated.sum());
+    }
+}
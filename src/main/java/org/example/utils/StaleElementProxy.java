@@ -0,0 +1,83 @@
+package org.example.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * WebElement that remembers its locator. When a call fails with StaleElementReferenceException
+ * (the page re-rendered the node) the locator is resolved again and the call repeated, up to
+ * element.stale.retries times per call. Every stale hit is recorded in WaitTelemetry, so
+ * locators on flaky pages show up in the report instead of being papered over.
+ */
+public class StaleElementProxy implements InvocationHandler {
+    private final By locator;
+    private final Function<By, WebElement> resolver;
+    private final int retries;
+    private WebElement element;
+
+    private StaleElementProxy(By locator, WebElement element, Function<By, WebElement> resolver, int retries) {
+        this.locator = locator;
+        this.element = element;
+        this.resolver = resolver;
+        this.retries = retries;
+    }
+
+    /**
+     * Wrap an already resolved element; resolver looks the locator up again (normally a WaitHelper wait)
+     */
+    public static WebElement wrap(By locator, WebElement element, Function<By, WebElement> resolver) {
+        return (WebElement) Proxy.newProxyInstance(StaleElementProxy.class.getClassLoader(),
+            new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+            new StaleElementProxy(locator, element, resolver, ConfigReader.getStaleRetries()));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getWrappedElement":
+                return current();
+            case "toString":
+                // WaitHelper keys its telemetry on the "By..." part
+                return "Stale-retrying proxy for: " + locator;
+            case "equals":
+                return proxy == args[0] || current().equals(args[0]);
+            case "hashCode":
+                return current().hashCode();
+            default:
+                break;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return method.invoke(current(), args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (!(cause instanceof StaleElementReferenceException)) {
+                    throw cause;
+                }
+                boolean retry = attempt < retries;
+                WaitTelemetry.recordStale(locator.toString(), retry);
+                if (!retry) {
+                    throw cause;
+                }
+                System.out.println("[WAIT] Stale element, looking up again (" + (attempt + 1) + "/" + retries + "): " + locator);
+                synchronized (this) {
+                    element = resolver.apply(locator);
+                }
+            }
+        }
+    }
+
+    private synchronized WebElement current() {
+        return element;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Report handle for one test, returned by ExtentManager.createTest / getTest.
+ * Mirrors the ExtentTest calls used by the tests. With an ExtentLogQueue every call is
+ * captured as an event (with the test thread's timestamp) and applied by the queue's
+ * consumer; without one it writes straight to the ExtentTest. Every event is also
+ * appended to the run's ResultsJournal when one is open.
+ */
+public class TestLogger {
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    private final long id = NEXT_ID.getAndIncrement();
+    private final ExtentLogQueue queue;
+    private final ResultsJournal journal;
+    private ExtentTest extentTest; // written and read on the consumer thread in async mode
+
+    private TestLogger(ExtentLogQueue queue, ResultsJournal journal) {
+        this.queue = queue;
+        this.journal = journal;
+    }
+
+    static TestLogger create(ExtentReports extent, ExtentLogQueue queue, ResultsJournal journal,
+                             String name, String description) {
+        TestLogger logger = new TestLogger(queue, journal);
+        long createdAt = System.currentTimeMillis();
+        String thread = Thread.currentThread().getName();
+        logger.dispatch(() -> {
+            logger.extentTest = description == null ? extent.createTest(name) : extent.createTest(name, description);
+            logger.extentTest.getModel().setStartTime(new Date(createdAt));
+            if (journal != null) {
+                journal.testStarted(logger.id, name, description, thread, createdAt);
+            }
+        });
+        return logger;
+    }
+
+    public TestLogger log(Status status, String details) {
+        return logEvent(status, test -> test.log(status, details), () -> details);
+    }
+
+    public TestLogger log(Status status, Throwable throwable) {
+        return logEvent(status, test -> test.log(status, throwable), () -> "<pre>" + stackTrace(throwable) + "</pre>");
+    }
+
+    public TestLogger info(String details) {
+        return log(Status.INFO, details);
+    }
+
+    public TestLogger pass(String details) {
+        return log(Status.PASS, details);
+    }
+
+    public TestLogger fail(String details) {
+        return log(Status.FAIL, details);
+    }
+
+    public TestLogger fail(Throwable throwable) {
+        return log(Status.FAIL, throwable);
+    }
+
+    public TestLogger warning(String details) {
+        return log(Status.WARNING, details);
+    }
+
+    public TestLogger skip(String details) {
+        return log(Status.SKIP, details);
+    }
+
+    public TestLogger addScreenCaptureFromPath(String path, String title) {
+        return apply(test -> test.addScreenCaptureFromPath(path, title), () -> journal.media(id, path, title));
+    }
+
+    public TestLogger addScreenCaptureFromPath(String path) {
+        return addScreenCaptureFromPath(path, null);
+    }
+
+    public TestLogger assignCategory(String... categories) {
+        return apply(test -> test.assignCategory(categories), () -> journal.tags(id, "category", categories));
+    }
+
+    public TestLogger assignDevice(String... devices) {
+        return apply(test -> test.assignDevice(devices), () -> journal.tags(id, "device", devices));
+    }
+
+    public TestLogger assignAuthor(String... authors) {
+        return apply(test -> test.assignAuthor(authors), () -> journal.tags(id, "author", authors));
+    }
+
+    /**
+     * Journal the final result of the test; the HTML status is derived from the logged entries
+     */
+    public TestLogger recordResult(String method, String className, TestResultsAggregator.Status status,
+                                   long durationMillis, String error) {
+        long finishedAt = System.currentTimeMillis();
+        return apply(test -> { },
+            () -> journal.result(id, method, className, status, durationMillis, error, finishedAt));
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public boolean isAsync() {
+        return queue != null;
+    }
+
+    private TestLogger logEvent(Status status, Consumer<ExtentTest> action, Supplier<String> journalDetails) {
+        long loggedAt = System.currentTimeMillis();
+        return apply(test -> {
+            action.accept(test);
+            if (isAsync()) {
+                // Keep the time the test logged the entry, not the time the consumer applied it
+                setLastLogTimestamp(test, loggedAt);
+            }
+        }, () -> journal.log(id, status.name(), journalDetails.get(), loggedAt));
+    }
+
+    private TestLogger apply(Consumer<ExtentTest> action, Runnable journalWrite) {
+        dispatch(() -> {
+            action.accept(extentTest);
+            if (journal != null) {
+                journalWrite.run();
+            }
+        });
+        return this;
+    }
+
+    private void dispatch(Runnable event) {
+        if (queue != null) {
+            queue.submit(event);
+        } else {
+            event.run();
+        }
+    }
+
+    /**
+     * Backdate the most recent log entry of a test, e.g. when it is applied later than it was logged
+     */
+    static void setLastLogTimestamp(ExtentTest test, long timestampMillis) {
+        List<Log> logs = test.getModel().getLogs();
+        if (!logs.isEmpty()) {
+            Date timestamp = new Date(timestampMillis);
+            logs.get(logs.size() - 1).setTimestamp(timestamp);
+            test.getModel().setEndTime(timestamp);
+        }
+    }
+
+    private static String stackTrace(Throwable throwable) {
+        StringWriter writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString().replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects suite results from UI and API tests running on any number of threads.
+ * Counters are LongAdders and results go to a lock-free, append-only log,
+ * so recording a result never blocks a test thread.
+ */
+public class TestResultsAggregator {
+    private static final TestResultsAggregator instance = new TestResultsAggregator();
+
+    private final LongAdder totalTests = new LongAdder();
+    private final LongAdder passedTests = new LongAdder();
+    private final LongAdder failedTests = new LongAdder();
+    private final LongAdder skippedTests = new LongAdder();
+    private final LongAdder totalTestDuration = new LongAdder();
+    private final ConcurrentLinkedQueue<TestRecord> results = new ConcurrentLinkedQueue<>();
+    private volatile long suiteStartTime = System.currentTimeMillis();
+    private volatile long suiteEndTime = 0;
+
+    public enum Status { PASS, FAIL, SKIP }
+
+    /**
+     * Shared aggregator for the running suite
+     */
+    public static TestResultsAggregator getInstance() {
+        return instance;
+    }
+
+    /**
+     * Clear all results and restart the suite clock
+     */
+    public void reset() {
+        totalTests.reset();
+        passedTests.reset();
+        failedTests.reset();
+        skippedTests.reset();
+        totalTestDuration.reset();
+        results.clear();
+        suiteStartTime = System.currentTimeMillis();
+        suiteEndTime = 0;
+    }
+
+    public void record(String testName, String className, Status status, long durationMillis, String error) {
+        record(new TestRecord(testName, className, status, durationMillis, error, System.currentTimeMillis()));
+    }
+
+    /**
+     * Record a result as-is, e.g. one replayed from a results journal
+     */
+    public void record(TestRecord record) {
+        results.add(record);
+
+        totalTests.increment();
+        totalTestDuration.add(record.getDurationMillis());
+        switch (record.getStatus()) {
+            case PASS:
+                passedTests.increment();
+                break;
+            case FAIL:
+                failedTests.increment();
+                break;
+            case SKIP:
+                skippedTests.increment();
+                break;
+        }
+    }
+
+    public long getTotalTests() {
+        return totalTests.sum();
+    }
+
+    public long getPassedTests() {
+        return passedTests.sum();
+    }
+
+    public long getFailedTests() {
+        return failedTests.sum();
+    }
+
+    public long getSkippedTests() {
+        return skippedTests.sum();
+    }
+
+    /**
+     * Sum of individual test durations (exceeds wall-clock time when tests run in parallel)
+     */
+    public long getTotalTestDuration() {
+        return totalTestDuration.sum();
+    }
+
+    public long getSuiteStartTime() {
+        return suiteStartTime;
+    }
+
+    /**
+     * Fix the suite start and end time, e.g. when rebuilding a finished run from its journal
+     */
+    public void setSuiteWindow(long startTime, long endTime) {
+        suiteStartTime = startTime;
+        suiteEndTime = endTime;
+    }
+
+    /**
+     * Wall-clock suite time: up to now while running, or the fixed window of a finished run
+     */
+    public long getSuiteDuration() {
+        long end = suiteEndTime > 0 ? suiteEndTime : System.currentTimeMillis();
+        return end - suiteStartTime;
+    }
+
+    public double getSuccessRate() {
+        long total = getTotalTests();
+        return total > 0 ? (getPassedTests() * 100.0 / total) : 0.0;
+    }
+
+    public boolean hasFailures() {
+        return getFailedTests() > 0;
+    }
+
+    /**
+     * Snapshot of the results recorded so far, in completion order
+     */
+    public List<TestRecord> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Immutable result of one test method
+     */
+    public static final class TestRecord {
+        private final String testName;
+        private final String className;
+        private final Status status;
+        private final long durationMillis;
+        private final String error;
+        private final long finishedAt;
+
+        public TestRecord(String testName, String className, Status status, long durationMillis, String error, long finishedAt) {
+            this.testName = testName;
+            this.className = className;
+            this.status = status;
+            this.durationMillis = durationMillis;
+            this.error = error;
+            this.finishedAt = finishedAt;
+        }
+
+        public String getTestName() { return testName; }
+        public String getClassName() { return className; }
+        public Status getStatus() { return status; }
+        public long getDurationMillis() { return durationMillis; }
+        public String getError() { return error; }
+        public long getFinishedAt() { return finishedAt; }
+
+        @Override
+        public String toString() {
+            return String.format("TestRecord{test=%s, class=%s, status=%s, duration=%dms}",
+                testName, className, status, durationMillis);
+        }
+    }
+}
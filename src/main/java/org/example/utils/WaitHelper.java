@@ -1,84 +1,279 @@
 package org.example.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Utility class for WebDriver waits
+ * waitForPageStable is the readiness engine: it instruments the page once (MutationObserver,
+ * fetch/XHR counters) and returns as soon as the DOM has been quiet for wait.stable.quiet.ms
+ * with no pending requests and no finite animations running.
+ * Condition waits poll adaptively and every wait is recorded in WaitTelemetry.
  */
 public class WaitHelper {
+    private static final long MAX_POLL_CHUNK_MILLIS = 5000;
+
+    // Installed once per document; requests started before installation are not counted
+    private static final String INSTALL_READINESS_JS = """
+        if (!window.__readiness) {
+            var r = window.__readiness = {pending: 0, lastMutation: performance.now()};
+            var settle = function () { r.pending = Math.max(0, r.pending - 1); };
+            new MutationObserver(function () { r.lastMutation = performance.now(); })
+                .observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+            if (window.fetch) {
+                var originalFetch = window.fetch;
+                window.fetch = function () {
+                    r.pending++;
+                    try {
+                        var promise = originalFetch.apply(this, arguments);
+                        promise.then(settle, settle);
+                        return promise;
+                    } catch (e) {
+                        settle();
+                        throw e;
+                    }
+                };
+            }
+            var originalSend = XMLHttpRequest.prototype.send;
+            XMLHttpRequest.prototype.send = function () {
+                r.pending++;
+                this.addEventListener('loadend', settle);
+                try {
+                    return originalSend.apply(this, arguments);
+                } catch (e) {
+                    settle();
+                    throw e;
+                }
+            };
+        }
+        """;
+
+    // Polls in the browser and calls back once stable or when the chunk budget is spent
+    private static final String AWAIT_STABLE_JS = INSTALL_READINESS_JS + """
+        var callback = arguments[arguments.length - 1];
+        var quietMillis = arguments[0];
+        var budgetMillis = arguments[1];
+        var started = performance.now();
+        (function poll() {
+            var r = window.__readiness;
+            var animations = document.getAnimations ? document.getAnimations().filter(function (a) {
+                if (a.playState !== 'running') { return false; }
+                // Infinite animations (spinners, carousels) never finish, so they do not block readiness
+                var timing = a.effect && a.effect.getComputedTiming ? a.effect.getComputedTiming() : null;
+                return !timing || isFinite(timing.endTime);
+            }).length : 0;
+            var state = {
+                ready: document.readyState === 'complete',
+                quietMillis: Math.round(performance.now() - r.lastMutation),
+                pending: r.pending,
+                animations: animations
+            };
+            state.stable = state.ready && state.quietMillis >= quietMillis && state.pending === 0 && animations === 0;
+            if (state.stable || performance.now() - started >= budgetMillis) {
+                callback(state);
+            } else {
+                setTimeout(poll, 25);
+            }
+        })();
+        """;
+
     private WebDriver driver;
-    private WebDriverWait wait;
+    private final Duration timeout;
 
     public WaitHelper(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        this.timeout = Duration.ofSeconds(ConfigReader.getExplicitWait());
     }
 
     public WebElement waitForElementToBeVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until(locator.toString(), "visible", ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     public WebElement waitForElementToBeVisible(WebElement element) {
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        return until(describe(element), "visible", ExpectedConditions.visibilityOf(element));
     }
 
     public WebElement waitForElementToBeClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return until(locator.toString(), "clickable", ExpectedConditions.elementToBeClickable(locator));
     }
 
     public WebElement waitForElementToBeClickable(WebElement element) {
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        return until(describe(element), "clickable", ExpectedConditions.elementToBeClickable(element));
     }
 
     public boolean waitForElementToBeInvisible(By locator) {
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until(locator.toString(), "invisible", ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     public WebElement waitForPresenceOfElement(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return until(locator.toString(), "present", ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     public boolean waitForTextToBePresentInElement(By locator, String text) {
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return until(locator.toString(), "text", ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
 
     public boolean waitForTextToBePresentInElement(WebElement element, String text) {
-        return wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+        return until(describe(element), "text", ExpectedConditions.textToBePresentInElement(element, text));
     }
 
     public boolean waitForUrlContains(String fraction) {
-        return wait.until(ExpectedConditions.urlContains(fraction));
+        return until("url", "contains", ExpectedConditions.urlContains(fraction));
     }
 
     public boolean waitForUrlToBe(String url) {
-        return wait.until(ExpectedConditions.urlToBe(url));
+        return until("url", "equals", ExpectedConditions.urlToBe(url));
     }
 
     public boolean waitForTitleContains(String title) {
-        return wait.until(ExpectedConditions.titleContains(title));
+        return until("title", "contains", ExpectedConditions.titleContains(title));
     }
 
     public boolean waitForTitleIs(String title) {
-        return wait.until(ExpectedConditions.titleIs(title));
+        return until("title", "equals", ExpectedConditions.titleIs(title));
     }
 
     public void waitForPageToLoad() {
-        wait.until(webDriver -> ((org.openqa.selenium.JavascriptExecutor) webDriver)
+        until("document", "readyState complete", webDriver -> ((JavascriptExecutor) webDriver)
                 .executeScript("return document.readyState").equals("complete"));
     }
 
-    public void customWait(int seconds) {
+    /**
+     * WebDriverWait with adaptive polling (wait.poll.initial.ms doubling up to wait.poll.max.ms);
+     * the time spent is recorded in WaitTelemetry under the locator
+     */
+    private <T> T until(String locator, String condition, Function<WebDriver, T> expectedCondition) {
+        WebDriverWait wait = new WebDriverWait(driver, timeout, Duration.ofMillis(ConfigReader.getWaitPollMaxMillis()),
+            Clock.systemDefaultZone(), new BackoffSleeper());
+        long started = System.nanoTime();
+        boolean timedOut = false;
         try {
-            Thread.sleep(seconds * 1000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Thread was interrupted during wait", e);
+            return wait.until(expectedCondition);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            WaitTelemetry.record(locator, condition, System.nanoTime() - started, timedOut);
+        }
+    }
+
+    /**
+     * Telemetry key for a PageFactory element: its locator rather than the proxy description
+     */
+    private static String describe(WebElement element) {
+        String description = String.valueOf(element);
+        int by = description.indexOf("By.");
+        if (by < 0) {
+            return description;
+        }
+        String locator = description.substring(by);
+        return locator.endsWith("'") ? locator.substring(0, locator.length() - 1) : locator;
+    }
+
+    /**
+     * Polls tightly first, then backs off: initial, 2x, 4x ... capped at the maximum interval
+     */
+    private static final class BackoffSleeper implements Sleeper {
+        private final long maxMillis = ConfigReader.getWaitPollMaxMillis();
+        private long nextMillis = Math.min(ConfigReader.getWaitPollInitialMillis(), maxMillis);
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            Thread.sleep(nextMillis);
+            nextMillis = Math.min(maxMillis, nextMillis * 2);
+        }
+    }
+
+    /**
+     * Wait until the page is stable, for at most explicit.wait seconds
+     * @return milliseconds actually waited
+     */
+    public long waitForPageStable() {
+        return waitForPageStable(Duration.ofSeconds(ConfigReader.getExplicitWait()));
+    }
+
+    /**
+     * Wait until the document is complete, the DOM has been quiet for wait.stable.quiet.ms, no fetch/XHR
+     * is pending and no finite animation is running. Gives up quietly at the timeout, since pages
+     * with constant background activity should not fail a test.
+     * @return milliseconds actually waited
+     */
+    public long waitForPageStable(Duration timeout) {
+        long started = System.currentTimeMillis();
+        long deadline = started + timeout.toMillis();
+        long quietMillis = ConfigReader.getStableQuietMillis();
+        long chunkMillis = Math.min(MAX_POLL_CHUNK_MILLIS,
+            Math.max(100, driver.manage().timeouts().getScriptTimeout().toMillis() - 500));
+        Map<?, ?> state = null;
+        BackoffSleeper retrySleeper = new BackoffSleeper();
+
+        while (System.currentTimeMillis() < deadline) {
+            long budget = Math.min(chunkMillis, deadline - System.currentTimeMillis());
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_STABLE_JS, quietMillis, budget);
+                state = result instanceof Map ? (Map<?, ?>) result : null;
+            } catch (WebDriverException e) {
+                if (!isDocumentReplaced(e)) {
+                    throw e;
+                }
+                // A navigation replaced the document mid-poll; the next round instruments the new one
+                state = null;
+                try {
+                    retrySleeper.sleep(null);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                continue;
+            }
+            if (state != null && Boolean.TRUE.equals(state.get("stable"))) {
+                long waited = System.currentTimeMillis() - started;
+                WaitTelemetry.record("page", "stable", waited * 1_000_000L, false);
+                System.out.println("[WAIT] Page stable after " + waited + " ms");
+                return waited;
+            }
         }
+
+        long waited = System.currentTimeMillis() - started;
+        WaitTelemetry.record("page", "stable", waited * 1_000_000L, true);
+        System.out.println("[WAIT] Page not stable after " + waited + " ms, continuing (last state: " + state + ")");
+        return waited;
+    }
+
+    /**
+     * Errors of a readiness poll that a navigation causes (the document went away under the script);
+     * anything else, such as a dead session or a broken script, is a real failure
+     */
+    private static boolean isDocumentReplaced(WebDriverException e) {
+        if (e instanceof NoSuchSessionException) {
+            return false;
+        }
+        if (e instanceof ScriptTimeoutException) {
+            return true;
+        }
+        String message = String.valueOf(e.getMessage());
+        return message.contains("document unloaded") || message.contains("Execution context was destroyed")
+            || message.contains("Cannot find context") || message.contains("Inspected target navigated or closed");
+    }
+
+    /**
+     * Wait up to the given number of seconds for the page to become stable (formerly a fixed sleep)
+     */
+    public void customWait(int seconds) {
+        waitForPageStable(Duration.ofSeconds(seconds));
     }
 }
@@ -0,0 +1,155 @@
+package org.example.utils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Suite-wide wait-time histograms keyed by locator (or by what was waited for, e.g. "page stable").
+ * WaitHelper records every wait; the slowest entries by total wall-clock are added to the report.
+ * StaleElementProxy records every time a locator's element went stale, so flaky pages show up too.
+ */
+public class WaitTelemetry {
+    private static final Map<String, WaitStats> stats = new ConcurrentHashMap<>();
+
+    public static void record(String locator, String condition, long nanos, boolean timedOut) {
+        WaitStats entry = stats.computeIfAbsent(locator, key -> new WaitStats(key));
+        entry.histogram.recordNanos(nanos);
+        entry.conditions.add(condition);
+        if (timedOut) {
+            entry.timeouts.increment();
+        }
+    }
+
+    /**
+     * A cached element of this locator went stale; recovered is false when the retry budget ran out
+     */
+    public static void recordStale(String locator, boolean recovered) {
+        WaitStats entry = stats.computeIfAbsent(locator, key -> new WaitStats(key));
+        entry.stale.increment();
+        if (!recovered) {
+            entry.staleFailures.increment();
+        }
+    }
+
+    /**
+     * Locators ordered by total time spent waiting, largest first
+     */
+    public static List<WaitStats> getSlowest(int limit) {
+        return stats.values().stream()
+            .filter(entry -> entry.histogram.getCount() > 0)
+            .sorted(Comparator.comparingDouble((WaitStats entry) -> entry.histogram.getTotalMillis()).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Locators that went stale, most often first
+     */
+    public static List<WaitStats> getMostStale(int limit) {
+        return stats.values().stream()
+            .filter(entry -> entry.stale.sum() > 0)
+            .sorted(Comparator.comparingLong((WaitStats entry) -> entry.stale.sum()).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    public static boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public static boolean hasStaleElements() {
+        return stats.values().stream().anyMatch(entry -> entry.stale.sum() > 0);
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    /**
+     * "Slowest waits" table for the report dashboard
+     */
+    public static String toHtmlTable(int limit) {
+        StringBuilder html = new StringBuilder("<table class='table'><tr><th>Locator</th><th>Waits</th>"
+            + "<th>Timeouts</th><th>Total</th><th>p50</th><th>p95</th><th>Max</th></tr>");
+        for (WaitStats entry : getSlowest(limit)) {
+            LatencyHistogram histogram = entry.histogram;
+            html.append(String.format("<tr><td>%s<br><small>%s</small></td><td>%d</td><td>%d</td>"
+                    + "<td>%.1fs</td><td>%.0fms</td><td>%.0fms</td><td>%.0fms</td></tr>",
+                escape(entry.locator), escape(String.join(", ", entry.conditions)), histogram.getCount(),
+                entry.timeouts.sum(), histogram.getTotalMillis() / 1000.0, histogram.getPercentileMillis(50),
+                histogram.getPercentileMillis(95), histogram.getMaxMillis()));
+        }
+        html.append("</table>");
+        return html.toString();
+    }
+
+    /**
+     * Console lines, e.g. "  12.4s  n=31 p50=250.0ms ... By.xpath: //*[@class='Pke_EE']"
+     */
+    public static String toSummary(int limit) {
+        StringBuilder summary = new StringBuilder();
+        for (WaitStats entry : getSlowest(limit)) {
+            summary.append(String.format("  %6.1fs  %s timeouts=%d  %s%n", entry.histogram.getTotalMillis() / 1000.0,
+                entry.histogram.toSummary(), entry.timeouts.sum(), entry.locator));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * "Stale elements" table for the report dashboard
+     */
+    public static String toStaleHtmlTable(int limit) {
+        StringBuilder html = new StringBuilder("<table class='table'><tr><th>Locator</th><th>Stale</th>"
+            + "<th>Not recovered</th></tr>");
+        for (WaitStats entry : getMostStale(limit)) {
+            html.append(String.format("<tr><td>%s</td><td>%d</td><td>%d</td></tr>",
+                escape(entry.locator), entry.stale.sum(), entry.staleFailures.sum()));
+        }
+        html.append("</table>");
+        return html.toString();
+    }
+
+    /**
+     * Console lines, e.g. "  stale=4 not recovered=0  By.xpath: //*[@class='Pke_EE']"
+     */
+    public static String toStaleSummary(int limit) {
+        StringBuilder summary = new StringBuilder();
+        for (WaitStats entry : getMostStale(limit)) {
+            summary.append(String.format("  stale=%d not recovered=%d  %s%n", entry.stale.sum(),
+                entry.staleFailures.sum(), entry.locator));
+        }
+        return summary.toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Wait times of one locator
+     */
+    public static final class WaitStats {
+        private final String locator;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final Set<String> conditions = ConcurrentHashMap.newKeySet();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+        private final LongAdder staleFailures = new LongAdder();
+
+        private WaitStats(String locator) {
+            this.locator = locator;
+        }
+
+        public String getLocator() { return locator; }
+        public LatencyHistogram getHistogram() { return histogram; }
+        public Set<String> getConditions() { return conditions; }
+        public long getTimeouts() { return timeouts.sum(); }
+        public long getStale() { return stale.sum(); }
+        public long getStaleFailures() { return staleFailures.sum(); }
+    }
+}
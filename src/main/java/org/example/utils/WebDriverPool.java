@@ -0,0 +1,374 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, thread-safe pool of reusable WebDriver sessions.
+ * Sessions are keyed by browser and options, reset between leases and
+ * retired when they crash, get too old or have served too many tests.
+ * A released session can preload the next test's start page in the background;
+ * the next lease waits for that load to finish before handing the session out.
+ */
+public class WebDriverPool {
+    private static WebDriverPool instance;
+
+    private final int maxSize;
+    private final long maxSessionAgeMillis;
+    private final int maxLeases;
+    private final long leaseTimeoutMillis;
+
+    private final Map<String, Deque<PooledSession>> idleSessions = new HashMap<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new IdentityHashMap<>();
+    private int liveSessions = 0;
+    private boolean shutdown = false;
+    private ExecutorService preloadExecutor;
+
+    public WebDriverPool(int maxSize, long maxSessionAgeMillis, int maxLeases, long leaseTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("WebDriver pool size must be at least 1 but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxSessionAgeMillis = maxSessionAgeMillis;
+        this.maxLeases = maxLeases;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+    }
+
+    /**
+     * Shared pool configured from config.properties
+     */
+    public static synchronized WebDriverPool getInstance() {
+        if (instance == null) {
+            instance = new WebDriverPool(
+                ConfigReader.getDriverPoolMaxSize(),
+                ConfigReader.getDriverPoolMaxSessionAge() * 1000L,
+                ConfigReader.getDriverPoolMaxLeases(),
+                ConfigReader.getDriverPoolLeaseTimeout() * 1000L);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "webdriver-pool-shutdown"));
+            System.out.println("[POOL] WebDriver pool created with max " + instance.maxSize + " session(s)");
+        }
+        return instance;
+    }
+
+    /**
+     * Lease a warm session for the given key, creating one through the factory when none is idle.
+     * Blocks until a session is available or the lease timeout elapses.
+     */
+    public WebDriver lease(String key, Supplier<WebDriver> factory) {
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+        List<PooledSession> retired = new ArrayList<>();
+        PooledSession session = null;
+
+        try {
+            synchronized (this) {
+                while (true) {
+                    if (shutdown) {
+                        throw new IllegalStateException("WebDriver pool has been shut down");
+                    }
+
+                    session = pollIdle(key, retired);
+                    if (session != null) {
+                        break;
+                    }
+
+                    if (liveSessions < maxSize) {
+                        liveSessions++;
+                        break;
+                    }
+
+                    if (evictIdleOfOtherKey(key, retired)) {
+                        continue;
+                    }
+
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new RuntimeException("Timed out after " + leaseTimeoutMillis
+                            + " ms waiting for a free WebDriver session (pool size " + maxSize + ")");
+                    }
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException("Interrupted while waiting for a WebDriver session", e);
+                    }
+                }
+            }
+        } finally {
+            retired.forEach(this::quitQuietly);
+        }
+
+        if (session != null) {
+            awaitPreload(session);
+        } else {
+            try {
+                session = new PooledSession(key, factory.get());
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    liveSessions--;
+                    notifyAll();
+                }
+                throw e;
+            }
+            System.out.println("[POOL] Launched new WebDriver session for " + key);
+        }
+
+        session.leases++;
+        synchronized (this) {
+            leasedSessions.put(session.driver, session);
+        }
+        return session.driver;
+    }
+
+    /**
+     * Return a leased session to the pool. The session is reset before it is handed out again,
+     * or retired when the reset fails or it has exceeded its age/lease budget.
+     */
+    public void release(WebDriver driver) {
+        release(driver, null);
+    }
+
+    /**
+     * Return a leased session and, when it stays in the pool, load preloadUrl into it in the
+     * background so the next test on this session can skip its own navigation
+     */
+    public void release(WebDriver driver, String preloadUrl) {
+        if (driver == null) {
+            return;
+        }
+
+        PooledSession session;
+        synchronized (this) {
+            session = leasedSessions.remove(driver);
+        }
+        if (session == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        session.preloadedUrl = null;
+        String reason = retirementReason(session);
+        if (reason == null && !resetSession(session.driver)) {
+            reason = "session crashed or could not be reset";
+        }
+
+        synchronized (this) {
+            if (reason == null && !shutdown) {
+                if (preloadUrl != null) {
+                    session.preload = getPreloadExecutor().submit(() -> preload(session, preloadUrl));
+                }
+                idleSessions.computeIfAbsent(session.key, k -> new ArrayDeque<>()).offerFirst(session);
+                notifyAll();
+                return;
+            }
+            liveSessions--;
+            notifyAll();
+        }
+
+        System.out.println("[POOL] Retiring WebDriver session: " + (reason != null ? reason : "pool shut down"));
+        quitQuietly(session);
+    }
+
+    /**
+     * Number of tests the given leased session has served, including the current one
+     */
+    public synchronized int getLeaseCount(WebDriver driver) {
+        PooledSession session = leasedSessions.get(driver);
+        return session != null ? session.leases : 0;
+    }
+
+    /**
+     * URL the pool preloaded into this leased session, or null when it starts on about:blank
+     */
+    public synchronized String getPreloadedUrl(WebDriver driver) {
+        PooledSession session = leasedSessions.get(driver);
+        return session != null ? session.preloadedUrl : null;
+    }
+
+    /**
+     * Quit every session, idle or leased, and refuse further leases
+     */
+    public void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>();
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            idleSessions.values().forEach(sessions::addAll);
+            idleSessions.clear();
+            sessions.addAll(leasedSessions.values());
+            leasedSessions.clear();
+            liveSessions = 0;
+            notifyAll();
+        }
+
+        sessions.forEach(this::quitQuietly);
+        if (!sessions.isEmpty()) {
+            System.out.println("[POOL] Shut down WebDriver pool, closed " + sessions.size() + " session(s)");
+        }
+        synchronized (this) {
+            if (preloadExecutor != null) {
+                preloadExecutor.shutdown();
+            }
+        }
+    }
+
+    private synchronized ExecutorService getPreloadExecutor() {
+        if (preloadExecutor == null) {
+            preloadExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "webdriver-pool-preload");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return preloadExecutor;
+    }
+
+    private void preload(PooledSession session, String url) {
+        long started = System.currentTimeMillis();
+        try {
+            session.driver.get(url);
+            session.preloadedUrl = url;
+            System.out.println("[POOL] Preloaded " + url + " in " + (System.currentTimeMillis() - started) + " ms");
+        } catch (Exception e) {
+            // The next test navigates itself; a broken session is caught by its own calls or the next reset
+            System.err.println("[POOL] Failed to preload " + url + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Block until a background preload of the session has finished, so only one thread drives it
+     */
+    private void awaitPreload(PooledSession session) {
+        Future<?> preload = session.preload;
+        if (preload == null) {
+            return;
+        }
+        try {
+            preload.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("[POOL] Preload failed: " + e.getCause());
+        } finally {
+            session.preload = null;
+        }
+    }
+
+    private PooledSession pollIdle(String key, List<PooledSession> retired) {
+        Deque<PooledSession> sessions = idleSessions.get(key);
+        while (sessions != null && !sessions.isEmpty()) {
+            PooledSession session = sessions.pollFirst();
+            if (retirementReason(session) == null) {
+                return session;
+            }
+            liveSessions--;
+            retired.add(session);
+        }
+        return null;
+    }
+
+    private boolean evictIdleOfOtherKey(String key, List<PooledSession> retired) {
+        for (Map.Entry<String, Deque<PooledSession>> entry : idleSessions.entrySet()) {
+            if (!entry.getKey().equals(key) && !entry.getValue().isEmpty()) {
+                retired.add(entry.getValue().pollLast());
+                liveSessions--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String retirementReason(PooledSession session) {
+        long age = System.currentTimeMillis() - session.createdAt;
+        if (maxSessionAgeMillis > 0 && age > maxSessionAgeMillis) {
+            return "session age " + (age / 1000) + "s exceeded limit";
+        }
+        if (maxLeases > 0 && session.leases >= maxLeases) {
+            return "session served " + session.leases + " tests";
+        }
+        return null;
+    }
+
+    /**
+     * Close extra tabs and clear cookies and storage so the next test starts clean
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            Iterator<String> iterator = handles.iterator();
+            String primary = iterator.next();
+            while (iterator.hasNext()) {
+                driver.switchTo().window(iterator.next());
+                driver.close();
+            }
+            driver.switchTo().window(primary);
+
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception e) {
+                // Pages such as about:blank have no storage
+            }
+
+            if (driver instanceof HasCdp) {
+                // Clears cookies for every domain, not only the current page
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("[POOL] Failed to reset WebDriver session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void quitQuietly(PooledSession session) {
+        awaitPreload(session);
+        quitQuietly(session.driver);
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("[POOL] Error while quitting WebDriver session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A live browser session tracked by the pool
+     */
+    private static class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        private int leases = 0;
+        private volatile Future<?> preload;
+        private volatile String preloadedUrl;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+}
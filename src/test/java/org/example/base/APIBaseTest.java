@@ -1,17 +1,30 @@
 package org.example.base;
 
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import org.example.utils.ApiConnectionPool;
+import org.example.utils.ConcurrentRequestRunner;
 import org.example.utils.ConfigReader;
 import org.example.utils.ExtentManager;
+import org.example.utils.JsonStreamValidator;
+import org.example.utils.LatencyHistogram;
+import org.example.utils.LatencySlo;
+import org.example.utils.LoadTestRunner;
+import org.example.utils.TestLogger;
+import org.testng.Assert;
 import org.testng.ITestResult;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.AfterMethod;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Base class for API tests
@@ -19,72 +32,167 @@ import java.lang.reflect.Method;
  */
 public class APIBaseTest {
     
-    protected ExtentTest test;
-    protected Response response;
+    private static boolean apiConfigured = false;
     
     @BeforeClass
     public void setupAPI() {
+        configureRestAssured();
+    }
+    
+    /**
+     * Configure REST Assured once per suite; every test class shares the same connection pool
+     */
+    private static synchronized void configureRestAssured() {
+        if (apiConfigured) {
+            return;
+        }
+        
         // Set the base URI for all API requests
         RestAssured.baseURI = ConfigReader.getProperty("api.base.url");
         
-        // Set default timeout
-        RestAssured.config = RestAssured.config()
-            .httpClient(io.restassured.config.HttpClientConfig.httpClientConfig()
-                .setParam("http.connection.timeout", 
-                    Integer.parseInt(ConfigReader.getProperty("api.timeout")) * 1000)
-                .setParam("http.socket.timeout", 
-                    Integer.parseInt(ConfigReader.getProperty("api.timeout")) * 1000));
+        // Shared keep-alive connection pool with timeouts
+        RestAssured.config = RestAssured.config().httpClient(ApiConnectionPool.getHttpClientConfig());
+        apiConfigured = true;
         
         System.out.println("API Base URI set to: " + RestAssured.baseURI);
     }
     
     @BeforeMethod
     public void setupTest(Method method) {
-        // Create ExtentTest for each test method
-        test = ExtentManager.createTest(method.getName());
+        // Create a report entry for each test method
+        TestLogger test = ExtentManager.createTest(method.getName());
         test.log(Status.INFO, "Starting API test: " + method.getName());
         test.log(Status.INFO, "Base URI: " + RestAssured.baseURI);
     }
     
     @AfterMethod
     public void tearDownTest(ITestResult result) {
+        TestLogger test = getTest();
         if (test != null) {
             test.log(Status.INFO, "API test completed");
+            test.log(Status.INFO, "HTTP connection pool: " + ApiConnectionPool.describeStats());
         }
         
-        // Update the shared counters from BaseTest for accurate reporting
-        synchronized (APIBaseTest.class) {
-            BaseTest.incrementTotalTests();
+        if (test != null) {
             if (result.getStatus() == ITestResult.SUCCESS) {
-                BaseTest.incrementPassedTests();
-                if (test != null) test.log(Status.PASS, "✅ API Test Passed");
+                test.log(Status.PASS, "✅ API Test Passed");
             } else if (result.getStatus() == ITestResult.FAILURE) {
-                BaseTest.incrementFailedTests();
-                if (test != null) test.log(Status.FAIL, "❌ API Test Failed");
+                test.log(Status.FAIL, "❌ API Test Failed");
+            }
+        }
+        
+        // Record the result in the suite aggregator shared with UI tests
+        BaseTest.recordResult(result, result.getEndMillis() - result.getStartMillis());
+        ExtentManager.removeTest();
+    }
+    
+    /**
+     * Report handle of the test method running on the current thread
+     */
+    protected TestLogger getTest() {
+        return ExtentManager.getTest();
+    }
+    
+    /**
+     * Send one request per input concurrently on virtual threads and log a timing summary.
+     * Results keep the input order; failed calls carry their exception instead of a response.
+     */
+    protected <T> List<ConcurrentRequestRunner.TimedResponse<T>> sendConcurrently(Collection<T> inputs,
+                                                                                  Function<T, Response> request) {
+        long start = System.currentTimeMillis();
+        List<ConcurrentRequestRunner.TimedResponse<T>> results = ConcurrentRequestRunner.fromConfig().runAll(inputs, request);
+        long wallTime = System.currentTimeMillis() - start;
+        
+        long succeeded = results.stream().filter(ConcurrentRequestRunner.TimedResponse::isSuccess).count();
+        long slowest = results.stream().mapToLong(ConcurrentRequestRunner.TimedResponse::getElapsedMillis).max().orElse(0);
+        double average = results.stream().mapToLong(ConcurrentRequestRunner.TimedResponse::getElapsedMillis).average().orElse(0);
+        
+        getTest().log(Status.INFO, String.format("Concurrent requests: %d sent, %d completed in %d ms (avg %.0f ms, max %d ms)",
+            results.size(), succeeded, wallTime, average, slowest));
+        return results;
+    }
+    
+    /**
+     * Measure an endpoint against its latency SLO: run the configured warm-up calls, then record the
+     * measured calls in a histogram, attach it to the report and fail if any percentile breaches its threshold
+     */
+    protected LatencyHistogram assertLatencySlo(String endpoint, Supplier<Response> call) {
+        LatencySlo slo = LatencySlo.forEndpoint(endpoint);
+        int warmupCalls = ConfigReader.getApiSloWarmupCalls();
+        int sampleCalls = ConfigReader.getApiSloSampleCalls();
+        
+        for (int i = 0; i < warmupCalls; i++) {
+            call.get().asByteArray();
+        }
+        
+        LatencyHistogram histogram = new LatencyHistogram();
+        int unexpectedStatus = 0;
+        for (int i = 0; i < sampleCalls; i++) {
+            long start = System.nanoTime();
+            Response sample = call.get();
+            // Include the body download; an unread body would also keep its pooled connection leased
+            sample.asByteArray();
+            histogram.recordNanos(System.nanoTime() - start);
+            if (sample.getStatusCode() >= 400) {
+                unexpectedStatus++;
             }
         }
+        
+        getTest().log(Status.INFO, histogram.toHtmlTable("Latency " + endpoint + " (" + warmupCalls
+            + " warm-up + " + sampleCalls + " measured calls)"));
+        Assert.assertEquals(unexpectedStatus, 0, unexpectedStatus + " measured call(s) to " + endpoint + " returned an error status");
+        
+        List<String> breaches = slo.findBreaches(histogram);
+        Assert.assertTrue(breaches.isEmpty(), "Latency SLO breached for " + endpoint + ": " + breaches
+            + " (" + histogram.toSummary() + ")");
+        getTest().log(Status.PASS, "✓ Latency SLO met for " + endpoint + " [" + slo + "]: " + histogram.toSummary());
+        return histogram;
+    }
+    
+    /**
+     * Drive the request builders as a load scenario and attach throughput, error rate and the
+     * per-second latency timeline to the report
+     */
+    protected LoadTestRunner.LoadTestResult runLoadScenario(LoadTestRunner runner,
+                                                            Map<String, Supplier<Response>> scenarios) {
+        getTest().log(Status.INFO, "Load scenario: " + scenarios.keySet());
+        LoadTestRunner.LoadTestResult result = runner.run(scenarios);
+        getTest().log(Status.INFO, result.toHtml());
+        return result;
     }
     
     /**
      * Helper method to log API request details
      */
     protected void logRequest(String method, String endpoint) {
-        test.log(Status.INFO, "API Request: " + method + " " + endpoint);
+        getTest().log(Status.INFO, "API Request: " + method + " " + endpoint);
     }
     
     /**
      * Helper method to log API response details
      */
     protected void logResponse(Response response) {
-        test.log(Status.INFO, "Response Status Code: " + response.getStatusCode());
-        test.log(Status.INFO, "Response Time: " + response.getTime() + " ms");
+        getTest().log(Status.INFO, "Response Status Code: " + response.getStatusCode());
+        getTest().log(Status.INFO, "Response Time: " + response.getTime() + " ms");
         
-        // Log response body only if it's not too large
-        String responseBody = response.getBody().asString();
-        if (responseBody.length() < 500) {
-            test.log(Status.INFO, "Response Body: " + responseBody);
+        // Log response body only if it's not too large (size check avoids decoding large bodies)
+        byte[] responseBody = response.getBody().asByteArray();
+        if (responseBody.length < 500) {
+            getTest().log(Status.INFO, "Response Body: " + new String(responseBody, StandardCharsets.UTF_8));
         } else {
-            test.log(Status.INFO, "Response Body: [Large response - " + responseBody.length() + " characters]");
+            getTest().log(Status.INFO, "Response Body: [Large response - " + responseBody.length + " bytes]");
         }
     }
+    
+    /**
+     * Validate the response body in one streaming pass and fail the test on any violation
+     */
+    protected JsonStreamValidator.Result assertJsonStream(Response response, JsonStreamValidator validator) {
+        JsonStreamValidator.Result result = validator.validate(response.getBody().asInputStream());
+        
+        Assert.assertTrue(result.isValid(), "Response JSON validation failed with " + result.getViolationCount()
+            + " violation(s): " + result.getViolations());
+        getTest().log(Status.PASS, "✓ Response JSON validation passed: " + result.getSummary());
+        return result;
+    }
 }
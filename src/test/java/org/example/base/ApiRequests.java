@@ -0,0 +1,76 @@
+package org.example.base;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Request builders for the automationexercise.com API.
+ * Functional API tests and the load scenario share these definitions, so an
+ * endpoint is described in exactly one place.
+ */
+public class ApiRequests {
+    private final String baseUri;
+
+    private ApiRequests(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Requests against RestAssured.baseURI (api.base.url)
+     */
+    public static ApiRequests defaults() {
+        return new ApiRequests(null);
+    }
+
+    /**
+     * Requests against another server, e.g. a local stub
+     */
+    public static ApiRequests forBaseUri(String baseUri) {
+        return new ApiRequests(baseUri);
+    }
+
+    private RequestSpecification request() {
+        RequestSpecification request = RestAssured.given();
+        if (baseUri != null) {
+            request.baseUri(baseUri);
+        }
+        return request;
+    }
+
+    /**
+     * API 1: GET /productsList
+     */
+    public Response getProductsList() {
+        return request()
+                .header("Content-Type", "application/json")
+                .when()
+                .get("/productsList")
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * API 3: GET /brandsList
+     */
+    public Response getBrandsList() {
+        return request()
+                .header("Content-Type", "application/json")
+                .when()
+                .get("/brandsList")
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * API 5: POST /searchProduct with search_product
+     */
+    public Response searchProduct(String productName) {
+        return request()
+                .formParam("search_product", productName)
+                .when()
+                .post("/searchProduct")
+                .then()
+                .extract().response();
+    }
+}
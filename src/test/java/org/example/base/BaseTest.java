@@ -1,62 +1,74 @@
 package org.example.base;
 
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.example.utils.ApiConnectionPool;
 import org.example.utils.ConfigReader;
+import org.example.utils.DeepLinks;
+import org.example.utils.DriverBinaryResolver;
 import org.example.utils.EmailNotifier;
 import org.example.utils.ExtentManager;
+import org.example.utils.FailureRecorder;
+import org.example.utils.NetworkBlocker;
+import org.example.utils.PageObjectValidator;
+import org.example.utils.ResultsJournal;
 import org.example.utils.ScreenshotHelper;
 import org.example.utils.TelegramNotifier;
+import org.example.utils.TestLogger;
+import org.example.utils.TestResultsAggregator;
 import org.example.utils.WaitHelper;
+import org.example.utils.WaitTelemetry;
+import org.example.utils.WebDriverPool;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
 /**
  * Base test class with WebDriver setup and teardown
+ * Browser sessions are leased from WebDriverPool and returned after each test
  */
 public class BaseTest {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
     protected static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
-    protected WaitHelper waitHelper;
-    protected ExtentTest test;
+    // The session as leased from the pool; driver may wrap it (see FailureRecorder.getDriver)
+    private static ThreadLocal<WebDriver> leasedSession = new ThreadLocal<>();
+    private static ThreadLocal<WaitHelper> waitHelper = new ThreadLocal<>();
+    private static ThreadLocal<FailureRecorder> recorder = new ThreadLocal<>();
+    private static ThreadLocal<String> startUrl = new ThreadLocal<>();
     protected TelegramNotifier telegramNotifier;
     protected EmailNotifier emailNotifier;
     
-    // Simple counters for test results
-    protected static int totalTests = 0;
-    protected static int passedTests = 0;
-    protected static int failedTests = 0;
-    protected static java.util.List<String> testResults = new java.util.ArrayList<>();
-    protected static long suiteStartTime = 0;
-    
-    // Public methods for API tests to update counters
-    public static synchronized void incrementTotalTests() {
-        totalTests++;
-    }
-    
-    public static synchronized void incrementPassedTests() {
-        passedTests++;
-    }
-    
-    public static synchronized void incrementFailedTests() {
-        failedTests++;
-    }
+    // Suite results shared with API tests
+    protected static final TestResultsAggregator results = TestResultsAggregator.getInstance();
 
     @BeforeSuite
     public void beforeSuite() {
         ExtentManager.getInstance();
         
-        // Initialize simple counters
-        totalTests = 0;
-        passedTests = 0;
-        failedTests = 0;
-        testResults.clear();
-        suiteStartTime = System.currentTimeMillis();
+        // With implicit waits off, page objects must not rely on them; fail fast if one does
+        if (ConfigReader.isExplicitWaitStrategy()) {
+            PageObjectValidator.validate("org.example.pages");
+        }
+        
+        // Resolve the browser driver binary once for the whole run
+        if ("chrome".equalsIgnoreCase(ConfigReader.getBrowser())) {
+            DriverBinaryResolver.resolveChromeDriver();
+        }
+        
+        // Reset suite results and start the suite clock
+        results.reset();
+        WaitTelemetry.reset();
+        NetworkBlocker.resetSuite();
         
         // Initialize Telegram notifier if enabled
         if (ConfigReader.isTelegramEnabled()) {
@@ -84,30 +96,85 @@ public class BaseTest {
         // Record start time for duration calculation
         result.setAttribute("startTime", System.currentTimeMillis());
         
-        // Create ExtentTest instance with enhanced formatting
+        // Create report entry with enhanced formatting
         String testName = result.getMethod().getMethodName();
         String className = result.getTestClass().getName().substring(result.getTestClass().getName().lastIndexOf('.') + 1);
         String description = getTestDescription(result.getMethod());
         
-        test = ExtentManager.createTest("🧪 " + className + " → " + testName, description);
+        TestLogger test = ExtentManager.createTest("🧪 " + className + " → " + testName, description);
         test.assignCategory(className);
         test.assignDevice(ConfigReader.getBrowser().toUpperCase());
         
         test.info("🚀 <b>Starting Test Execution</b>");
         test.info("📋 Test: " + testName);
         test.info("📦 Class: " + className);
-        test.info("⏰ Start Time: " + new java.text.SimpleDateFormat("HH:mm:ss").format(new java.util.Date()));
-        
+        test.info("⏰ Start Time: " + LocalTime.now().format(TIME_FORMAT));
         
-        // Setup WebDriver
-        setupDriver();
         
-        // Initialize WaitHelper
-        waitHelper = new WaitHelper(getDriver());
+        // Tests in the "ui-flow" group keep driving the real UI even with deep links on
+        boolean uiFlow = Arrays.asList(result.getMethod().getGroups()).contains(DeepLinks.UI_FLOW_GROUP);
+        DeepLinks.requireUiFlow(uiFlow);
+        if (ConfigReader.isDeepLinkNavigation()) {
+            test.info(uiFlow ? "🧭 UI flow test: deep links disabled" : "🔗 Deep-link navigation enabled");
+        }
         
-        // Navigate to base URL
-        getDriver().get(ConfigReader.getBaseUrl());
-        test.pass("🌐 Successfully navigated to: " + ConfigReader.getBaseUrl());
+        try {
+            // Setup WebDriver
+            setupDriver();
+            
+            // Keep the last few seconds of the browser in memory in case the test fails;
+            // the test then drives the browser through the recorder so the two never overlap
+            if (ConfigReader.isRecorderEnabled()) {
+                FailureRecorder failureRecorder = FailureRecorder.start(getDriver());
+                recorder.set(failureRecorder);
+                driver.set(failureRecorder.getDriver());
+            }
+            
+            // Initialize WaitHelper
+            waitHelper.set(new WaitHelper(getDriver()));
+            
+            // Navigate to the test's start page (base URL unless annotated); a page-load timeout here
+            // fails setUp, so it is covered by the release below as well
+            openStartPage(result, test);
+        } catch (RuntimeException e) {
+            // A leased session must go back to the pool, or it is lost to every later test
+            releaseSession();
+            throw e;
+        }
+    }
+    
+    /**
+     * Open the @StartPage of the test method or class (base.url without one);
+     * skipped when the pooled session already has it preloaded
+     */
+    private void openStartPage(ITestResult result, TestLogger test) {
+        String url = resolveStartPage(result);
+        startUrl.set(url);
+        if (url == null) {
+            test.info("🌐 No start page, the test navigates itself");
+            return;
+        }
+        if (url.equals(WebDriverPool.getInstance().getPreloadedUrl(leasedSession.get()))) {
+            test.pass("🌐 Start page preloaded by the pool: " + url);
+            return;
+        }
+        getDriver().get(url);
+        test.pass("🌐 Successfully navigated to: " + url);
+    }
+    
+    private String resolveStartPage(ITestResult result) {
+        StartPage startPage = result.getMethod().getConstructorOrMethod().getMethod().getAnnotation(StartPage.class);
+        if (startPage == null) {
+            startPage = result.getTestClass().getRealClass().getAnnotation(StartPage.class);
+        }
+        if (startPage == null) {
+            return ConfigReader.getBaseUrl();
+        }
+        if (StartPage.NONE.equals(startPage.value()) || startPage.skipWhenDeepLinked() && DeepLinks.isEnabled()) {
+            return null;
+        }
+        return startPage.value().isEmpty() ? ConfigReader.getBaseUrl()
+            : URI.create(ConfigReader.getBaseUrl()).resolve(startPage.value()).toString();
     }
     
     private String getTestDescription(org.testng.ITestNGMethod method) {
@@ -123,52 +190,111 @@ public class BaseTest {
         
         switch (browser) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                
-                if (ConfigReader.isHeadless()) {
-                    chromeOptions.addArguments("--headless");
-                }
-                
-                // Chrome options for better stability
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                chromeOptions.addArguments("--disable-gpu");
-                chromeOptions.addArguments("--window-size=1920,1080");
-                chromeOptions.addArguments("--disable-extensions");
-                chromeOptions.addArguments("--disable-web-security");
-                chromeOptions.addArguments("--allow-running-insecure-content");
+                ChromeOptions chromeOptions = buildChromeOptions();
+                String poolKey = browser + ":" + chromeOptions.asMap();
                 
-                // For CI/CD environments
-                if (ConfigReader.isCIEnvironment()) {
-                    chromeOptions.addArguments("--headless");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    chromeOptions.addArguments("--no-sandbox");
+                leasedSession.set(WebDriverPool.getInstance().lease(poolKey, () -> launchChrome(chromeOptions)));
+                driver.set(leasedSession.get());
+                // A background preload since the last test is not this test's traffic
+                NetworkBlocker networkBlocker = NetworkBlocker.forDriver(leasedSession.get());
+                if (networkBlocker != null) {
+                    networkBlocker.reset();
                 }
-                
-                driver.set(new ChromeDriver(chromeOptions));
                 break;
                 
             default:
                 throw new RuntimeException("Browser '" + browser + "' is not supported");
         }
         
-        // Set timeouts
-        getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
-        getDriver().manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
-        getDriver().manage().window().maximize();
+        int leaseCount = WebDriverPool.getInstance().getLeaseCount(leasedSession.get());
+        if (leaseCount > 1) {
+            getTest().log(Status.INFO, "Reusing pooled '" + browser + "' session (test #" + leaseCount + " on this browser)");
+        } else {
+            getTest().log(Status.INFO, "Browser '" + browser + "' launched successfully");
+        }
+    }
+    
+    private ChromeOptions buildChromeOptions() {
+        ChromeOptions chromeOptions = new ChromeOptions();
         
-        test.log(Status.INFO, "Browser '" + browser + "' launched successfully");
+        if (ConfigReader.isHeadless()) {
+            chromeOptions.addArguments("--headless");
+        }
+        
+        // Chrome options for better stability
+        chromeOptions.addArguments("--no-sandbox");
+        chromeOptions.addArguments("--disable-dev-shm-usage");
+        chromeOptions.addArguments("--disable-gpu");
+        chromeOptions.addArguments("--window-size=1920,1080");
+        chromeOptions.addArguments("--disable-extensions");
+        chromeOptions.addArguments("--disable-web-security");
+        chromeOptions.addArguments("--allow-running-insecure-content");
+        
+        // For CI/CD environments
+        if (ConfigReader.isCIEnvironment()) {
+            chromeOptions.addArguments("--headless");
+            chromeOptions.addArguments("--disable-dev-shm-usage");
+            chromeOptions.addArguments("--no-sandbox");
+        }
+        
+        return chromeOptions;
+    }
+    
+    /**
+     * Start a new Chrome session for the pool; timeouts are applied once per session
+     */
+    private WebDriver launchChrome(ChromeOptions chromeOptions) {
+        DriverBinaryResolver.resolveChromeDriver();
+        WebDriver chromeDriver = new ChromeDriver(chromeOptions);
+        
+        // Implicit and explicit waits compound, so only one strategy is active (wait.strategy)
+        int implicitWait = ConfigReader.isExplicitWaitStrategy() ? 0 : ConfigReader.getImplicitWait();
+        chromeDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
+        chromeDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
+        chromeDriver.manage().window().maximize();
+        
+        // Drop ads, analytics and heavy resources for the whole life of the session (network.block.*)
+        NetworkBlocker.install(chromeDriver);
+        return chromeDriver;
     }
 
     public static WebDriver getDriver() {
         return driver.get();
     }
+    
+    /**
+     * Report handle of the test method running on the current thread
+     */
+    protected TestLogger getTest() {
+        return ExtentManager.getTest();
+    }
+    
+    protected WaitHelper getWaitHelper() {
+        return waitHelper.get();
+    }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - (long) result.getAttribute("startTime");
+        try {
+            reportResult(result);
+        } finally {
+            // Runs even when reporting fails, so the pool never loses a session
+            releaseSession();
+            ExtentManager.removeTest();
+            waitHelper.remove();
+            DeepLinks.clear();
+        }
+    }
+    
+    private void reportResult(ITestResult result) {
+        Object startTime = result.getAttribute("startTime");
+        long duration = System.currentTimeMillis() - (startTime != null ? (long) startTime : result.getStartMillis());
+        TestLogger test = getTest();
+        if (test == null) {
+            // setUp failed before the report entry was created
+            recordResult(result, duration);
+            return;
+        }
         
         if (result.getStatus() == ITestResult.FAILURE) {
             // Capture screenshot on failure
@@ -176,7 +302,12 @@ public class BaseTest {
             test.fail("[FAIL] <b>TEST FAILED</b>");
             test.fail("<details><summary><b>Error Details</b></summary>" + 
                      "<pre>" + result.getThrowable().getMessage() + "</pre></details>");
-            test.addScreenCaptureFromPath(screenshotPath, "Failure Screenshot");
+            if (screenshotPath != null) {
+                test.addScreenCaptureFromPath(screenshotPath, "Failure Screenshot");
+            } else {
+                test.warning("Failure screenshot could not be captured");
+            }
+            saveRecording(test, result.getMethod().getMethodName());
             test.info("Test Duration: " + formatDuration(duration));
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             test.pass("[PASS] <b>TEST PASSED SUCCESSFULLY</b>");
@@ -184,36 +315,96 @@ public class BaseTest {
             test.info("Test Duration: " + formatDuration(duration));
         } else if (result.getStatus() == ITestResult.SKIP) {
             test.skip("[SKIP] <b>TEST SKIPPED</b>");
-            test.skip("Reason: " + result.getThrowable().getMessage());
+            if (result.getThrowable() != null) {
+                test.skip("Reason: " + result.getThrowable().getMessage());
+            }
         }
         
         // Add test execution summary
-        test.info("Test execution completed at: " + new java.text.SimpleDateFormat("HH:mm:ss").format(new java.util.Date()));
+        test.info("Test execution completed at: " + LocalTime.now().format(TIME_FORMAT));
         
-        // Track test results with simple counters (no individual notifications)
-        String testName = result.getMethod().getMethodName();
-        totalTests++;
+        // Track test results in the suite aggregator (no individual notifications)
+        recordResult(result, duration);
         
+        // What this test's page loads downloaded and what was blocked
+        NetworkBlocker networkBlocker = NetworkBlocker.forDriver(leasedSession.get());
+        if (networkBlocker != null) {
+            test.info("🚫 Network: " + networkBlocker.describeAndReset());
+        }
+    }
+    
+    /**
+     * Stop the recorder and return the leased browser to the pool; safe to call more than once
+     */
+    private void releaseSession() {
+        try {
+            // Stop recording before the browser goes back to the pool
+            if (recorder.get() != null) {
+                recorder.get().stop();
+            }
+        } finally {
+            recorder.remove();
+            WebDriver session = leasedSession.get();
+            leasedSession.remove();
+            driver.remove();
+            String preloadUrl = ConfigReader.isDriverPoolPreloadEnabled() ? startUrl.get() : null;
+            startUrl.remove();
+            // Return browser to the pool for the next test, optionally preloading this test's start page for it
+            if (session != null) {
+                WebDriverPool.getInstance().release(session, preloadUrl);
+            }
+        }
+    }
+    
+    /**
+     * Write the failure recorder's buffer and link its flipbook from the report
+     */
+    private void saveRecording(TestLogger test, String testName) {
+        FailureRecorder failureRecorder = recorder.get();
+        if (failureRecorder == null) {
+            return;
+        }
+        try {
+            Path index = failureRecorder.saveTo(testName);
+            String link = Paths.get(ConfigReader.getReportPath()).toAbsolutePath()
+                .relativize(index.toAbsolutePath()).toString().replace('\\', '/');
+            test.info("🎞️ <a href=\"" + link + "\" target=\"_blank\">Recording before failure</a> ("
+                + failureRecorder.describe() + ")");
+        } catch (RuntimeException e) {
+            test.warning("Could not save failure recording: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Record a finished test in the suite aggregator; shared by UI and API base classes
+     */
+    static void recordResult(ITestResult result, long duration) {
+        TestResultsAggregator.Status status;
         if (result.getStatus() == ITestResult.SUCCESS) {
-            passedTests++;
-            testResults.add("[PASS] " + testName + " (" + formatDuration(duration) + ")");
+            status = TestResultsAggregator.Status.PASS;
+        } else if (result.getStatus() == ITestResult.SKIP) {
+            status = TestResultsAggregator.Status.SKIP;
         } else {
-            failedTests++;
-            String errorMsg = result.getThrowable() != null ? result.getThrowable().getMessage() : "Unknown error";
-            testResults.add("[FAIL] " + testName + " (" + formatDuration(duration) + ")\n   ERROR: " + errorMsg);
+            status = TestResultsAggregator.Status.FAIL;
         }
         
-        // Close browser
-        if (getDriver() != null) {
-            getDriver().quit();
-            driver.remove();
+        String errorMsg = null;
+        if (status != TestResultsAggregator.Status.PASS) {
+            errorMsg = result.getThrowable() != null ? result.getThrowable().getMessage() : "Unknown error";
         }
         
-        // Remove ExtentTest instance
-        ExtentManager.removeTest();
+        String methodName = result.getMethod().getMethodName();
+        String className = result.getTestClass().getRealClass().getSimpleName();
+        results.record(methodName, className, status, duration, errorMsg);
+        
+        // Journal the result alongside the test's report entries
+        TestLogger test = ExtentManager.getTest();
+        if (test != null) {
+            test.recordResult(methodName, className, status, duration, errorMsg);
+        }
     }
     
-    private String formatDuration(long milliseconds) {
+    private static String formatDuration(long milliseconds) {
         long seconds = milliseconds / 1000;
         long minutes = seconds / 60;
         seconds = seconds % 60;
@@ -230,12 +421,22 @@ public class BaseTest {
         // Add suite-level summary to ExtentReports before flushing
         addSuiteSummaryToExtentReports();
         
+        // Close all pooled browser sessions and HTTP connections
+        WebDriverPool.getInstance().shutdown();
+        ApiConnectionPool.shutdown();
+        
+        // Finish pending screenshot writes so every report link points at a file
+        ScreenshotHelper.shutdown();
+        
         ExtentManager.flush();
         String reportPath = ExtentManager.getReportPath();
         
+        // Summaries are rendered from the results journal written during the run
+        TestResultsAggregator suiteResults = loadSuiteResults();
+        
         // Calculate suite metrics
-        long suiteDuration = System.currentTimeMillis() - suiteStartTime;
-        double successRate = totalTests > 0 ? (passedTests * 100.0 / totalTests) : 0.0;
+        long suiteDuration = suiteResults.getSuiteDuration();
+        double successRate = suiteResults.getSuccessRate();
         String timestamp = new java.text.SimpleDateFormat("MMM dd, yyyy hh:mm:ss a").format(new java.util.Date());
         
         System.out.println("Test execution completed. Report generated at: " + reportPath);
@@ -243,15 +444,15 @@ public class BaseTest {
         // Send consolidated Telegram notification
         if (telegramNotifier != null) {
             System.out.println("[TELEGRAM] Sending consolidated notification...");
-            String telegramMessage = buildTelegramSummary(successRate, suiteDuration, timestamp, reportPath);
+            String telegramMessage = buildTelegramSummary(suiteResults, successRate, suiteDuration, timestamp, reportPath);
             telegramNotifier.sendMessage(telegramMessage);
         }
         
         // Send consolidated Email notification  
         if (emailNotifier != null) {
             System.out.println("[EMAIL] Sending consolidated notification...");
-            String emailSummary = buildEmailSummary(successRate, suiteDuration, timestamp);
-            emailNotifier.sendTestReport("Hybrid Automation Framework", failedTests == 0, suiteDuration, reportPath);
+            String emailSummary = buildEmailSummary(suiteResults, successRate, suiteDuration, timestamp);
+            emailNotifier.sendTestReport("Hybrid Automation Framework", !suiteResults.hasFailures(), suiteDuration, reportPath);
         }
         
         // Print suite summary to console
@@ -259,9 +460,12 @@ public class BaseTest {
         System.out.println("*** HYBRID AUTOMATION FRAMEWORK SUMMARY ***");
         System.out.println("=".repeat(60));
         System.out.printf("Framework: UI + API Tests (Hybrid)%n");
-        System.out.printf("[PASS] Passed: %d tests%n", passedTests);
-        System.out.printf("[FAIL] Failed: %d tests%n", failedTests);
-        System.out.printf("Total Tests: %d%n", totalTests);
+        System.out.printf("[PASS] Passed: %d tests%n", suiteResults.getPassedTests());
+        System.out.printf("[FAIL] Failed: %d tests%n", suiteResults.getFailedTests());
+        if (suiteResults.getSkippedTests() > 0) {
+            System.out.printf("[SKIP] Skipped: %d tests%n", suiteResults.getSkippedTests());
+        }
+        System.out.printf("Total Tests: %d%n", suiteResults.getTotalTests());
         System.out.printf("Success Rate: %.1f%%%n", successRate);
         System.out.printf("Duration: %s%n", formatDuration(suiteDuration));
         System.out.printf("Completed: %s%n", timestamp);
@@ -274,10 +478,27 @@ public class BaseTest {
         System.out.println("=".repeat(60));
     }
     
+    /**
+     * Suite results replayed from the closed results journal, or the in-memory results when journaling is off
+     */
+    private TestResultsAggregator loadSuiteResults() {
+        java.nio.file.Path journalPath = ExtentManager.getJournalPath();
+        if (journalPath == null) {
+            return results;
+        }
+        try {
+            return ResultsJournal.replay(journalPath);
+        } catch (RuntimeException e) {
+            System.err.println("[WARNING] Could not read results journal " + journalPath + ": " + e.getMessage());
+            return results;
+        }
+    }
+    
     /**
      * Build Telegram summary message
      */
-    private String buildTelegramSummary(double successRate, long duration, String timestamp, String reportPath) {
+    private String buildTelegramSummary(TestResultsAggregator results, double successRate, long duration,
+                                        String timestamp, String reportPath) {
         StringBuilder message = new StringBuilder();
         
         // Header
@@ -285,9 +506,12 @@ public class BaseTest {
         
         // Summary
         message.append("📊 EXECUTION SUMMARY:\n");
-        message.append("[PASS] Passed: ").append(passedTests).append(" tests\n");
-        message.append("[FAIL] Failed: ").append(failedTests).append(" tests\n");
-        message.append("Total Tests: ").append(totalTests).append("\n");
+        message.append("[PASS] Passed: ").append(results.getPassedTests()).append(" tests\n");
+        message.append("[FAIL] Failed: ").append(results.getFailedTests()).append(" tests\n");
+        if (results.getSkippedTests() > 0) {
+            message.append("[SKIP] Skipped: ").append(results.getSkippedTests()).append(" tests\n");
+        }
+        message.append("Total Tests: ").append(results.getTotalTests()).append("\n");
         message.append("Success Rate: ").append(String.format("%.1f%%", successRate)).append("\n\n");
         
         // Framework breakdown
@@ -301,8 +525,12 @@ public class BaseTest {
         
         // Test Details
         message.append("TEST DETAILS:\n");
-        for (String testResult : testResults) {
-            message.append(testResult).append("\n");
+        for (TestResultsAggregator.TestRecord record : results.getResults()) {
+            message.append("[").append(record.getStatus()).append("] ").append(record.getTestName())
+                .append(" (").append(formatDuration(record.getDurationMillis())).append(")\n");
+            if (record.getError() != null) {
+                message.append("   ERROR: ").append(record.getError()).append("\n");
+            }
         }
         
         // Report
@@ -316,40 +544,60 @@ public class BaseTest {
     /**
      * Build Email summary for subject line
      */
-    private String buildEmailSummary(double successRate, long duration, String timestamp) {
+    private String buildEmailSummary(TestResultsAggregator results, double successRate, long duration, String timestamp) {
         return String.format("FlipkartSearchTests - %d/%d Passed (%.1f%%) %s", 
-            passedTests, totalTests, successRate, failedTests == 0 ? "[PASS]" : "[FAIL]");
+            results.getPassedTests(), results.getTotalTests(), successRate, results.hasFailures() ? "[FAIL]" : "[PASS]");
     }
     
     /**
      * Add suite-level summary to ExtentReports via system information only
      */
     private void addSuiteSummaryToExtentReports() {
-        if (totalTests > 0) {
-            double successRate = (passedTests * 100.0 / totalTests);
-            long suiteDuration = System.currentTimeMillis() - suiteStartTime;
+        if (results.getTotalTests() > 0) {
+            double successRate = results.getSuccessRate();
+            long suiteDuration = results.getSuiteDuration();
             
             // Only add system information - do NOT create a separate test that affects statistics
-            ExtentManager.getInstance().setSystemInfo("Test Suite", "FlipkartSearchTests");
-            ExtentManager.getInstance().setSystemInfo("Total Tests", String.valueOf(totalTests));
-            ExtentManager.getInstance().setSystemInfo("Tests Passed", String.valueOf(passedTests));
-            ExtentManager.getInstance().setSystemInfo("Tests Failed", String.valueOf(failedTests));
-            ExtentManager.getInstance().setSystemInfo("Success Rate", String.format("%.1f%%", successRate));
-            ExtentManager.getInstance().setSystemInfo("Suite Duration", formatDuration(suiteDuration));
-            ExtentManager.getInstance().setSystemInfo("Execution Time", new java.text.SimpleDateFormat("MMM dd, yyyy hh:mm:ss a").format(new java.util.Date()));
+            ExtentManager.setSystemInfo("Test Suite", "FlipkartSearchTests");
+            ExtentManager.setSystemInfo("Total Tests", String.valueOf(results.getTotalTests()));
+            ExtentManager.setSystemInfo("Tests Passed", String.valueOf(results.getPassedTests()));
+            ExtentManager.setSystemInfo("Tests Failed", String.valueOf(results.getFailedTests()));
+            ExtentManager.setSystemInfo("Tests Skipped", String.valueOf(results.getSkippedTests()));
+            ExtentManager.setSystemInfo("Success Rate", String.format("%.1f%%", successRate));
+            ExtentManager.setSystemInfo("Suite Duration", formatDuration(suiteDuration));
+            ExtentManager.setSystemInfo("API Connection Pool", ApiConnectionPool.describeStats());
+            ExtentManager.setSystemInfo("Execution Time", new java.text.SimpleDateFormat("MMM dd, yyyy hh:mm:ss a").format(new java.util.Date()));
             
             // Add test results as system info
+            java.util.List<TestResultsAggregator.TestRecord> testResults = results.getResults();
             StringBuilder testResultsInfo = new StringBuilder();
             for (int i = 0; i < testResults.size(); i++) {
-                String testResult = testResults.get(i);
-                String status = testResult.startsWith("[PASS]") ? "PASSED" : "FAILED";
-                String testName = testResult.split(" \\(")[0].substring(6); // Remove "[PASS] " or "[FAIL] "
-                testResultsInfo.append(String.format("%d. %s: %s", i + 1, testName, status));
+                TestResultsAggregator.TestRecord record = testResults.get(i);
+                testResultsInfo.append(String.format("%d. %s: %s (%s)", i + 1, record.getTestName(),
+                    record.getStatus(), formatDuration(record.getDurationMillis())));
                 if (i < testResults.size() - 1) {
                     testResultsInfo.append(" | ");
                 }
             }
-            ExtentManager.getInstance().setSystemInfo("Test Results", testResultsInfo.toString());
+            ExtentManager.setSystemInfo("Test Results", testResultsInfo.toString());
+            
+            // Where the suite spent its wall-clock waiting
+            if (!WaitTelemetry.isEmpty()) {
+                ExtentManager.setSystemInfo("⏱️ Slowest Waits", WaitTelemetry.toHtmlTable(10));
+                System.out.println("[WAIT] Slowest waits (total time):\n" + WaitTelemetry.toSummary(10));
+            }
+            
+            // Requests blocked and bytes transferred by all browser sessions
+            if (NetworkBlocker.hasSuiteActivity()) {
+                ExtentManager.setSystemInfo("🚫 Network Blocking", NetworkBlocker.describeSuite());
+                System.out.println("[NETWORK] Suite: " + NetworkBlocker.describeSuite());
+            }
+            
+            // Locators whose elements went stale and had to be looked up again
+            if (WaitTelemetry.hasStaleElements()) {
+                ExtentManager.setSystemInfo("🔁 Stale Elements", WaitTelemetry.toStaleHtmlTable(10));
+                System.out.println("[WAIT] Stale elements:\n" + WaitTelemetry.toStaleSummary(10));
+            }
             
             System.out.println("[EXTENT] Added suite summary to system info - Success Rate: " + String.format("%.1f%%", successRate));
         }
@@ -357,34 +605,34 @@ public class BaseTest {
 
     // Enhanced utility methods for tests
     protected void logInfo(String message) {
-        test.info("[INFO] " + message);
+        getTest().info("[INFO] " + message);
     }
 
     protected void logPass(String message) {
-        test.pass("[PASS] " + message);
+        getTest().pass("[PASS] " + message);
     }
 
     protected void logFail(String message) {
-        test.fail("[FAIL] " + message);
+        getTest().fail("[FAIL] " + message);
     }
 
     protected void logWarning(String message) {
-        test.warning("[WARNING] " + message);
+        getTest().warning("[WARNING] " + message);
     }
     
     protected void logStep(String stepDescription) {
-        test.info("<b>Step:</b> " + stepDescription);
+        getTest().info("<b>Step:</b> " + stepDescription);
     }
     
     protected void logAction(String action) {
-        test.info("<b>Action:</b> " + action);
+        getTest().info("<b>Action:</b> " + action);
     }
     
     protected void logVerification(String verification) {
-        test.info("<b>Verification:</b> " + verification);
+        getTest().info("<b>Verification:</b> " + verification);
     }
     
     protected void logDebug(String debugInfo) {
-        test.info("<b>Debug:</b> " + debugInfo);
+        getTest().info("<b>Debug:</b> " + debugInfo);
     }
 }
@@ -0,0 +1,111 @@
+package org.example.base;
+
+import org.example.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Applies parallel execution settings from config.properties to the suite before it runs.
+ * UI (BaseTest) and API (APIBaseTest) test blocks get separate thread pools so heavy
+ * browser tests and lightweight API tests can each be sized for the build agent; other
+ * blocks (e.g. framework unit tests) keep the settings from testng.xml.
+ * A block with the parameter serial=true (the load scenarios) runs its methods one at a
+ * time, and with parallel.tests it waits until every other block has finished, so its
+ * load never skews the latency assertions of the API blocks.
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener, ITestListener {
+    public static final String SERIAL_PARAMETER = "serial";
+
+    private static volatile CountDownLatch concurrentBlocks = new CountDownLatch(0);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(ConfigReader.getParallelMode());
+        int uiThreads = ConfigReader.getUiThreadCount();
+        int apiThreads = ConfigReader.getApiThreadCount();
+
+        for (XmlSuite suite : suites) {
+            int nonSerialBlocks = 0;
+            for (XmlTest xmlTest : suite.getTests()) {
+                boolean serial = isSerial(xmlTest);
+                nonSerialBlocks += serial ? 0 : 1;
+
+                if (containsTests(xmlTest, BaseTest.class)) {
+                    apply(xmlTest, "UI", serial ? 1 : uiThreads, mode);
+                } else if (containsTests(xmlTest, APIBaseTest.class)) {
+                    apply(xmlTest, "API", serial ? 1 : apiThreads, mode);
+                } else {
+                    System.out.println("[PARALLEL] " + xmlTest.getName() + ": parallel=" + xmlTest.getParallel()
+                        + ", threads=" + xmlTest.getThreadCount() + " (from testng.xml)");
+                }
+            }
+
+            // Run the test blocks side by side when enabled; serial blocks wait for the others in onStart
+            if (ConfigReader.isParallelTests() && suite.getTests().size() > 1) {
+                suite.setParallel(XmlSuite.ParallelMode.TESTS);
+                suite.setThreadCount(suite.getTests().size());
+                concurrentBlocks = new CountDownLatch(nonSerialBlocks);
+            } else {
+                suite.setParallel(XmlSuite.ParallelMode.NONE);
+                concurrentBlocks = new CountDownLatch(0);
+            }
+            System.out.println("[PARALLEL] Suite " + suite.getName() + ": parallel=" + suite.getParallel()
+                + ", threads=" + suite.getThreadCount());
+        }
+    }
+
+    @Override
+    public void onStart(ITestContext context) {
+        if (!isSerial(context.getCurrentXmlTest())) {
+            return;
+        }
+        CountDownLatch others = concurrentBlocks;
+        if (others.getCount() > 0) {
+            System.out.println("[PARALLEL] " + context.getName() + " waits for " + others.getCount()
+                + " concurrent test block(s) to finish");
+            try {
+                others.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        if (!isSerial(context.getCurrentXmlTest())) {
+            concurrentBlocks.countDown();
+        }
+    }
+
+    private static void apply(XmlTest xmlTest, String kind, int threads, XmlSuite.ParallelMode mode) {
+        xmlTest.setParallel(threads > 1 ? mode : XmlSuite.ParallelMode.NONE);
+        xmlTest.setThreadCount(Math.max(threads, 1));
+        System.out.println("[PARALLEL] " + xmlTest.getName() + " (" + kind + (isSerial(xmlTest) ? ", serial" : "")
+            + "): parallel=" + xmlTest.getParallel() + ", threads=" + xmlTest.getThreadCount());
+    }
+
+    private static boolean isSerial(XmlTest xmlTest) {
+        return Boolean.parseBoolean(xmlTest.getParameter(SERIAL_PARAMETER));
+    }
+
+    private boolean containsTests(XmlTest xmlTest, Class<?> baseClass) {
+        for (XmlClass xmlClass : xmlTest.getXmlClasses()) {
+            try {
+                if (baseClass.isAssignableFrom(Class.forName(xmlClass.getName()))) {
+                    return true;
+                }
+            } catch (ClassNotFoundException e) {
+                System.err.println("[WARNING] Test class not found while configuring parallel run: " + xmlClass.getName());
+            }
+        }
+        return false;
+    }
+}
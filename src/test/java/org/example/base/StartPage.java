@@ -0,0 +1,34 @@
+package org.example.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Page BaseTest opens before a test, on a test class or method (the method wins).
+ * Without the annotation tests start on base.url.
+ *
+ *   {@code @StartPage}                                base.url
+ *   {@code @StartPage("search?q=camera")}             path resolved against base.url
+ *   {@code @StartPage(StartPage.NONE)}                no navigation, the test navigates itself
+ *   {@code @StartPage(skipWhenDeepLinked = true)}     base.url, unless the test takes deep links
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Inherited
+public @interface StartPage {
+    String NONE = "none";
+
+    /**
+     * Path relative to base.url, "" for base.url itself, or NONE
+     */
+    String value() default "";
+
+    /**
+     * Skip the start page when navigation.deep.links is on for this test, because its page
+     * actions navigate straight to their deep links
+     */
+    boolean skipWhenDeepLinked() default false;
+}
@@ -0,0 +1,200 @@
+package org.example.pages;
+
+import org.example.utils.DeepLinks;
+import org.example.utils.StaleElementProxy;
+import org.example.utils.WaitHelper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for page objects
+ * Elements are looked up once per page and cached by locator, instead of on every access as
+ * with PageFactory proxies. The cache is cleared when the page navigates (navigateTo or
+ * invalidateCache); cached elements are StaleElementProxy instances, so one that goes stale
+ * is looked up again transparently. elements(...) resolves several locators in a single
+ * executeScript round-trip. followDeepLink gives an action a direct-URL fast path.
+ */
+public abstract class BasePage {
+    // Resolves [using, value] pairs (By.Remotable parameters) in one call; null where nothing matches
+    private static final String BATCH_LOOKUP_JS = """
+        var specs = arguments[0], found = [];
+        for (var i = 0; i < specs.length; i++) {
+            var using = specs[i][0], value = specs[i][1], element = null;
+            try {
+                if (using === 'css selector') {
+                    element = document.querySelector(value);
+                } else if (using === 'xpath') {
+                    element = document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)
+                        .singleNodeValue;
+                } else if (using === 'id') {
+                    element = document.getElementById(value);
+                } else if (using === 'name') {
+                    element = document.getElementsByName(value)[0] || null;
+                } else if (using === 'class name') {
+                    element = document.getElementsByClassName(value)[0] || null;
+                } else if (using === 'tag name') {
+                    element = document.getElementsByTagName(value)[0] || null;
+                } else if (using === 'link text' || using === 'partial link text') {
+                    var links = document.getElementsByTagName('a');
+                    for (var j = 0; j < links.length && !element; j++) {
+                        var text = links[j].innerText.trim();
+                        if (using === 'link text' ? text === value : text.indexOf(value) >= 0) {
+                            element = links[j];
+                        }
+                    }
+                }
+            } catch (e) {
+                element = null;
+            }
+            found.push(element && element.nodeType === 1 ? element : null);
+        }
+        return found;
+        """;
+
+    protected final WebDriver driver;
+    protected final WaitHelper waitHelper;
+    private final Map<By, WebElement> elementCache = new HashMap<>();
+    private int lookups = 0;
+    private int cacheHits = 0;
+
+    protected BasePage(WebDriver driver) {
+        this.driver = driver;
+        this.waitHelper = new WaitHelper(driver);
+    }
+
+    /**
+     * Cached element for the locator; on a miss waits until it is present and caches it
+     */
+    protected WebElement element(By locator) {
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) {
+            cacheHits++;
+            return cached;
+        }
+        lookups++;
+        WebElement element = StaleElementProxy.wrap(locator, waitHelper.waitForPresenceOfElement(locator), this::resolve);
+        elementCache.put(locator, element);
+        return element;
+    }
+
+    private WebElement resolve(By locator) {
+        lookups++;
+        return waitHelper.waitForPresenceOfElement(locator);
+    }
+
+    /**
+     * Cached element, waited on until clickable
+     */
+    protected WebElement clickable(By locator) {
+        return waitHelper.waitForElementToBeClickable(element(locator));
+    }
+
+    /**
+     * Cached element, waited on until visible
+     */
+    protected WebElement visible(By locator) {
+        return waitHelper.waitForElementToBeVisible(element(locator));
+    }
+
+    /**
+     * Resolve several locators with one executeScript call; cached ones are not looked up again.
+     * Does not wait: locators with no match are absent from the result, so call it once the
+     * page is stable and fall back to element(...) for anything that renders late.
+     */
+    protected Map<By, WebElement> elements(By... locators) {
+        Map<By, WebElement> resolved = new LinkedHashMap<>();
+        List<By> missing = new ArrayList<>();
+        List<List<Object>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            WebElement cached = elementCache.get(locator);
+            if (cached != null) {
+                cacheHits++;
+                resolved.put(locator, cached);
+            } else if (locator instanceof By.Remotable) {
+                By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+                missing.add(locator);
+                specs.add(List.of(parameters.using(), parameters.value()));
+            } else {
+                // Custom By implementations (ByChained etc.) cannot be resolved in the page
+                resolved.put(locator, element(locator));
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        lookups++;
+        List<?> found = (List<?>) ((JavascriptExecutor) driver).executeScript(BATCH_LOOKUP_JS, specs);
+        for (int i = 0; i < missing.size(); i++) {
+            Object element = found.get(i);
+            if (element instanceof WebElement) {
+                WebElement wrapped = StaleElementProxy.wrap(missing.get(i), (WebElement) element, this::resolve);
+                elementCache.put(missing.get(i), wrapped);
+                resolved.put(missing.get(i), wrapped);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Navigate and drop every cached element of the previous document
+     */
+    protected void navigateTo(String url) {
+        invalidateCache();
+        driver.navigate().to(url);
+    }
+
+    /**
+     * Take the action's deep link instead of its UI flow when deep-link navigation is on
+     * (navigation.deep.links, not in a "ui-flow" test)
+     * @param template path relative to base.url with {0}, {1} ... placeholders, e.g. "search?q={0}"
+     * @return true if the deep link was followed and the UI flow should be skipped
+     */
+    protected boolean followDeepLink(String template, String... values) {
+        if (!DeepLinks.isEnabled()) {
+            return false;
+        }
+        String url = DeepLinks.resolve(template, values);
+        System.out.println("[NAV] Deep link: " + url);
+        navigateTo(url);
+        return true;
+    }
+
+    /**
+     * Forget all cached elements; call after an action that loads a new document
+     */
+    protected void invalidateCache() {
+        elementCache.clear();
+    }
+
+    /**
+     * Cache summary for logs, e.g. "lookups=2, cache hits=7"
+     */
+    public String describeCache() {
+        return String.format("lookups=%d, cache hits=%d", lookups, cacheHits);
+    }
+
+    /**
+     * Get the current page title
+     * @return page title
+     */
+    public String getPageTitle() {
+        return driver.getTitle();
+    }
+
+    /**
+     * Get the current URL
+     * @return current URL
+     */
+    public String getCurrentUrl() {
+        return driver.getCurrentUrl();
+    }
+}
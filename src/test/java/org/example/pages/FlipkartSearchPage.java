@@ -1,48 +1,49 @@
 package org.example.pages;
 
-import org.example.utils.WaitHelper;
+import org.example.utils.DeepLinks;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.Keys;
-import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 /**
  * Page Object Model for Flipkart Search Page
  * Handles search functionality on Flipkart website
  */
-public class FlipkartSearchPage {
-    private WebDriver driver;
-    private WaitHelper waitHelper;
+public class FlipkartSearchPage extends BasePage {
 
     // Search Elements
-    @FindBy(xpath = "//*[@class='Pke_EE']")
-    private WebElement searchBox;
+    private static final By SEARCH_BOX = By.xpath("//*[@class='Pke_EE']");
+
+    // Where a search ends up; taken directly when deep-link navigation is on
+    private static final String SEARCH_DEEP_LINK = "search?q={0}";
 
     // Constructor
     public FlipkartSearchPage(WebDriver driver) {
-        this.driver = driver;
-        this.waitHelper = new WaitHelper(driver);
-        PageFactory.initElements(driver, this);
+        super(driver);
     }
 
     /**
      * Click on the search bar to focus it with basic retry logic
      */
     public void clickOnSearchBar() {
+        if (DeepLinks.isEnabled()) {
+            // The search itself will use its deep link, so there is nothing to focus
+            System.out.println("⏭️ Search bar click skipped (deep-link navigation)");
+            return;
+        }
         try {
-            // Wait for page to stabilize
-            Thread.sleep(3000);
+            // Wait for page to stabilize (DOM quiet, no pending requests or animations)
+            waitHelper.waitForPageStable();
             
             // Try normal click first
-            waitHelper.waitForElementToBeClickable(searchBox);
-            searchBox.click();
+            clickable(SEARCH_BOX).click();
             System.out.println("✅ Search bar clicked successfully");
             
         } catch (Exception e) {
             try {
                 // Fallback: JavaScript click
-                ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", searchBox);
+                ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", element(SEARCH_BOX));
                 System.out.println("✅ Search bar clicked using JavaScript");
             } catch (Exception ex) {
                 System.err.println("❌ Both click methods failed: " + ex.getMessage());
@@ -66,34 +67,27 @@ public class FlipkartSearchPage {
     }
     
     /**
-     * Robust search method that handles stale elements
+     * Search method that survives re-rendered elements: a stale search box is looked up
+     * again by the element proxy, while real failures (e.g. the box never appears) fail the test
      */
     private void searchForProductRobust(String productName) {
-        try {
-            // Wait and get fresh element reference
-            Thread.sleep(1000);
-            waitHelper.waitForElementToBeClickable(searchBox);
-            
-            // Clear any existing text
-            searchBox.clear();
-            
-            // Type the product name
-            searchBox.sendKeys(productName);
-            searchBox.sendKeys(Keys.ENTER);
-            
-            System.out.println("✅ Successfully searched for: " + productName);
-            
-        } catch (Exception e) {
-            // If stale element, try direct navigation as fallback
-            try {
-                String searchUrl = "https://www.flipkart.com/search?q=" + productName.replace(" ", "%20");
-                driver.navigate().to(searchUrl);
-                System.out.println("✅ Used direct navigation for: " + productName);
-            } catch (Exception ex) {
-                System.err.println("❌ Both search methods failed for: " + productName);
-                throw new RuntimeException("Failed to search for: " + productName, ex);
-            }
+        if (followDeepLink(SEARCH_DEEP_LINK, productName)) {
+            System.out.println("✅ Opened search results for: " + productName);
+            return;
         }
+        
+        // Wait for the page to settle, then for the search box
+        waitHelper.waitForPageStable();
+        WebElement searchBox = clickable(SEARCH_BOX);
+        
+        // Clear any existing text
+        searchBox.clear();
+        
+        // Type the product name and submit; the results page is a new document
+        searchBox.sendKeys(productName + Keys.ENTER);
+        invalidateCache();
+        
+        System.out.println("✅ Successfully searched for: " + productName);
     }
 
     /**
@@ -101,26 +95,13 @@ public class FlipkartSearchPage {
      * @param productName - the product to search for
      */
     public void searchForProduct(String productName) {
-        waitHelper.waitForElementToBeClickable(searchBox);
+        if (followDeepLink(SEARCH_DEEP_LINK, productName)) {
+            return;
+        }
+        WebElement searchBox = clickable(SEARCH_BOX);
         searchBox.clear();
-        searchBox.sendKeys(productName);
-        searchBox.sendKeys(Keys.ENTER);
-    }
-
-    /**
-     * Get the current page title
-     * @return page title
-     */
-    public String getPageTitle() {
-        return driver.getTitle();
-    }
-
-    /**
-     * Get the current URL
-     * @return current URL
-     */
-    public String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        searchBox.sendKeys(productName + Keys.ENTER);
+        invalidateCache();
     }
 
     /**
@@ -129,8 +110,7 @@ public class FlipkartSearchPage {
      */
     public boolean isSearchPageLoaded() {
         try {
-            waitHelper.waitForElementToBeVisible(searchBox);
-            return searchBox.isDisplayed() && searchBox.isEnabled();
+            return visible(SEARCH_BOX).isEnabled();
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,125 @@
+package org.example.tests;
+
+import com.aventstack.extentreports.Status;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.example.base.APIBaseTest;
+import org.example.base.ApiRequests;
+import org.example.utils.ConfigReader;
+import org.example.utils.LoadTestRunner;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Load scenarios built from the same request builders as ProductsAPITest and BrandsAPITest.
+ * The stub scenario runs against a local HTTP server so the load runner itself is always verified;
+ * the real API scenario only runs when load.test.enabled=true.
+ */
+public class ApiLoadTest extends APIBaseTest {
+
+    private static final String PRODUCTS_JSON = "{\"responseCode\": 200, \"products\": ["
+        + "{\"id\": 1, \"name\": \"Blue Top\", \"price\": \"Rs. 500\", \"brand\": \"Polo\"}, "
+        + "{\"id\": 2, \"name\": \"Men Tshirt\", \"price\": \"Rs. 400\", \"brand\": \"H&M\"}]}";
+    private static final String BRANDS_JSON = "{\"responseCode\": 200, \"brands\": ["
+        + "{\"id\": 1, \"brand\": \"Polo\"}, {\"id\": 2, \"brand\": \"H&M\"}]}";
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private String stubBaseUri;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 200);
+        stubServer.createContext("/api/productsList", exchange -> respond(exchange, PRODUCTS_JSON));
+        stubServer.createContext("/api/brandsList", exchange -> respond(exchange, BRANDS_JSON));
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        stubBaseUri = "http://localhost:" + stubServer.getAddress().getPort() + "/api";
+        System.out.println("[LOAD] Stub API server started at " + stubBaseUri);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+        if (stubExecutor != null) {
+            stubExecutor.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<String, Supplier<Response>> catalogScenario(ApiRequests requests) {
+        Map<String, Supplier<Response>> scenarios = new LinkedHashMap<>();
+        scenarios.put("GET /productsList", requests::getProductsList);
+        scenarios.put("GET /brandsList", requests::getBrandsList);
+        return scenarios;
+    }
+
+    /**
+     * Short ramped run against the local stub: every request must succeed and the runner must
+     * keep dispatching. The throughput bound is deliberately loose (half the target) so a busy
+     * build agent does not fail the build; measuring the rate is the real API scenario's job.
+     */
+    @Test(description = "Verify the load runner completes a ramped run against a local stub API")
+    public void testLoadScenarioAgainstStubServer() {
+        int targetRps = 50;
+        LoadTestRunner runner = new LoadTestRunner(targetRps, 1, 4, 100);
+        Map<String, Supplier<Response>> scenarios = catalogScenario(ApiRequests.forBaseUri(stubBaseUri));
+
+        // Warm up REST Assured once per endpoint so first-call overhead does not count as load
+        scenarios.values().forEach(request -> Assert.assertEquals(request.get().getStatusCode(), 200));
+
+        LoadTestRunner.LoadTestResult result = runLoadScenario(runner, scenarios);
+
+        Assert.assertTrue(result.getCompletedRequests() > 0, "No requests completed during the load run");
+        Assert.assertEquals(result.getErrors(), 0, "Stub load run returned errors: " + result.toSummary());
+        Assert.assertEquals(result.getDropped(), 0, "Stub load run dropped requests: " + result.toSummary());
+        Assert.assertTrue(result.getSteadyStateThroughput() >= targetRps * 0.5,
+            "Steady-state throughput far below target: " + result.toSummary());
+        Assert.assertEquals(result.getLatencyByScenario().keySet().size(), 2, "Both endpoints should have been exercised");
+        getTest().log(Status.PASS, "✓ Stub load run: " + result.toSummary());
+    }
+
+    /**
+     * Configured load profile against api.base.url, opt-in via load.test.enabled
+     */
+    @Test(description = "Run the configured load profile against the products and brands APIs")
+    public void testLoadScenarioAgainstApi() {
+        if (!ConfigReader.isLoadTestEnabled()) {
+            throw new SkipException("Load test against the real API is disabled (set load.test.enabled=true)");
+        }
+
+        LoadTestRunner.LoadTestResult result = runLoadScenario(LoadTestRunner.fromConfig(),
+            catalogScenario(ApiRequests.defaults()));
+
+        Assert.assertTrue(result.getCompletedRequests() > 0, "No requests completed during the load run");
+        getTest().log(result.getErrorRate() == 0 ? Status.PASS : Status.WARNING,
+            "Load run against " + ConfigReader.getProperty("api.base.url") + ": " + result.toSummary());
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.tests;
 
 import org.example.base.BaseTest;
+import org.example.base.StartPage;
 import org.example.pages.FlipkartSearchPage;
+import org.example.utils.DeepLinks;
 import org.example.utils.ScreenshotHelper;
 import org.testng.annotations.Test;
 
@@ -9,11 +11,11 @@ import org.testng.annotations.Test;
  * Test class for Flipkart Search functionality
  */
 public class FlipkartSearchTest extends BaseTest {
-    private FlipkartSearchPage searchPage;
 
-    @Test(priority = 1, description = "Search for Nike Shoes on Flipkart")
+    // Always types into the search box, so the UI flow stays covered when deep links are on
+    @Test(priority = 1, description = "Search for Nike Shoes on Flipkart", groups = {DeepLinks.UI_FLOW_GROUP})
     public void testNikeShoesSearch() {
-        searchPage = new FlipkartSearchPage(getDriver());
+        FlipkartSearchPage searchPage = new FlipkartSearchPage(getDriver());
 
         logStep("Clicking on search bar");
         searchPage.clickOnSearchBar();
@@ -25,9 +27,11 @@ public class FlipkartSearchTest extends BaseTest {
         logPass("Nike Shoes search completed successfully");
     }
 
+    // With deep links on, the search opens the results page directly and the home page is not needed
+    @StartPage(skipWhenDeepLinked = true)
     @Test(priority = 2, description = "Search for Camera on Flipkart")
     public void searchForCamera() {
-        searchPage = new FlipkartSearchPage(getDriver());
+        FlipkartSearchPage searchPage = new FlipkartSearchPage(getDriver());
 
         logStep("Clicking on search bar");
         searchPage.clickOnSearchBar();
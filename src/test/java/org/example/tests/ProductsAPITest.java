@@ -1,13 +1,16 @@
 package org.example.tests;
 
 import com.aventstack.extentreports.Status;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.example.base.APIBaseTest;
+import org.example.base.ApiRequests;
+import org.example.utils.ConcurrentRequestRunner;
+import org.example.utils.JsonStreamValidator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import static io.restassured.RestAssured.given;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * API Tests for Products functionality
@@ -28,16 +31,11 @@ public class ProductsAPITest extends APIBaseTest {
     public void testGetAllProductsList() {
         
         // Step 1: Log what we're testing
-        test.log(Status.INFO, "Testing API 1: Get All Products List");
+        getTest().log(Status.INFO, "Testing API 1: Get All Products List");
         logRequest("GET", "/productsList");
         
-        // Step 2: Make the API call using REST Assured
-        response = given()
-                .header("Content-Type", "application/json")  // Set content type
-                .when()
-                .get("/productsList")  // Make GET request to /productsList endpoint
-                .then()
-                .extract().response();  // Extract the response for further validation
+        // Step 2: Make the API call using the shared REST Assured request builder
+        Response response = ApiRequests.defaults().getProductsList();
         
         // Step 3: Log the response details
         logResponse(response);
@@ -46,30 +44,67 @@ public class ProductsAPITest extends APIBaseTest {
         int actualStatusCode = response.getStatusCode();
         Assert.assertEquals(actualStatusCode, 200, 
             "Expected status code 200 but got " + actualStatusCode);
-        test.log(Status.PASS, "✓ Status code validation passed: " + actualStatusCode);
+        getTest().log(Status.PASS, "✓ Status code validation passed: " + actualStatusCode);
         
-        // Step 5: Validate response time (should be reasonable)
-        long responseTime = response.getTime();
-        Assert.assertTrue(responseTime < 5000, 
-            "Response time too slow: " + responseTime + "ms");
-        test.log(Status.PASS, "✓ Response time validation passed: " + responseTime + "ms");
+        // Step 5: Validate latency percentiles against the endpoint SLO
+        assertLatencySlo("/productsList", ApiRequests.defaults()::getProductsList);
         
-        // Step 6: Validate response body is not empty
-        String responseBody = response.getBody().asString();
-        Assert.assertFalse(responseBody.isEmpty(), "Response body should not be empty");
-        test.log(Status.PASS, "✓ Response body validation passed: Not empty");
+        // Step 6: Validate the product list in one streaming pass over the body
+        assertJsonStream(response, JsonStreamValidator.create()
+                .expectValue("responseCode", "200")
+                .expectArraySize("products", 1, Integer.MAX_VALUE)
+                .expectField("products[].id", JsonStreamValidator.Value::isNumber, "numeric id")
+                .expectField("products[].name", JsonStreamValidator.Value::isNotBlank, "non-blank name")
+                .expectField("products[].price", JsonStreamValidator.Value::isNotBlank, "non-blank price")
+                .expectField("products[].brand", JsonStreamValidator.Value::isNotBlank, "non-blank brand"));
         
-        // Step 7: Validate response contains expected content
-        Assert.assertTrue(responseBody.contains("products"), 
-            "Response should contain 'products' key");
-        test.log(Status.PASS, "✓ Response content validation passed: Contains 'products'");
-        
-        // Step 8: Validate Content-Type header
+        // Step 7: Validate Content-Type header
         String contentType = response.getHeader("Content-Type");
         Assert.assertTrue(contentType.contains("application/json") || contentType.contains("text/html"), 
             "Content-Type should be JSON or HTML, but got: " + contentType);
-        test.log(Status.PASS, "✓ Content-Type validation passed: " + contentType);
+        getTest().log(Status.PASS, "✓ Content-Type validation passed: " + contentType);
+        
+        getTest().log(Status.PASS, "🎉 All validations passed! API 1 test completed successfully");
+    }
+    
+    /**
+     * Test Case: API 5 - Search Product, fanned out over the whole catalog
+     * 
+     * API Details:
+     * - URL: https://automationexercise.com/api/searchProduct
+     * - Method: POST (search_product per product name from /productsList)
+     * - Expected Response Code: 200 for every product
+     * - Requests are sent concurrently on virtual threads
+     */
+    @Test(description = "Verify Search Product API finds every product in the catalog")
+    public void testSearchEveryCatalogProduct() {
+        
+        // Step 1: Load the catalog
+        getTest().log(Status.INFO, "Testing API 5: Search Product for every catalog entry");
+        logRequest("GET", "/productsList");
+        Response catalog = ApiRequests.defaults().getProductsList();
+        Assert.assertEquals(catalog.getStatusCode(), 200, "Could not load product catalog");
+        
+        List<String> productNames = catalog.jsonPath().getList("products.name", String.class).stream()
+                .distinct()
+                .collect(Collectors.toList());
+        Assert.assertFalse(productNames.isEmpty(), "Product catalog should not be empty");
+        getTest().log(Status.INFO, productNames.size() + " distinct products found in catalog");
+        
+        // Step 2: Search for every product concurrently
+        logRequest("POST", "/searchProduct (x" + productNames.size() + ")");
+        List<ConcurrentRequestRunner.TimedResponse<String>> results = sendConcurrently(productNames,
+                ApiRequests.defaults()::searchProduct);
         
-        test.log(Status.PASS, "🎉 All validations passed! API 1 test completed successfully");
+        // Step 3: Every search must succeed
+        List<String> failures = results.stream()
+                .filter(result -> !result.isSuccess() || result.getStatusCode() != 200
+                        || result.getResponse().jsonPath().getInt("responseCode") != 200)
+                .map(result -> result.getInput() + " -> " + (!result.isSuccess() ? result.getError().getMessage()
+                        : result.getStatusCode() != 200 ? "HTTP " + result.getStatusCode()
+                        : "responseCode " + result.getResponse().jsonPath().getInt("responseCode")))
+                .collect(Collectors.toList());
+        Assert.assertTrue(failures.isEmpty(), "Search failed for " + failures.size() + " product(s): " + failures);
+        getTest().log(Status.PASS, "✓ Search succeeded for all " + results.size() + " products");
     }
 }
@@ -0,0 +1,125 @@
+package org.example.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FailureRecorder ring buffer and driver serialization, against a stub driver (no browser needed)
+ */
+public class FailureRecorderTest {
+
+    @Test(description = "Ring buffer keeps the newest frames, oldest first")
+    public void keepsLatestFramesInOrder() {
+        FailureRecorder recorder = FailureRecorder.start(stubDriver(0, new AtomicInteger(), new AtomicInteger()),
+            false, 60_000, 3, Long.MAX_VALUE);
+        recorder.stop();
+        for (int i = 0; i < 5; i++) {
+            recorder.add(new FailureRecorder.Frame(i * 100L, new byte[] {(byte) i}));
+        }
+
+        List<FailureRecorder.Frame> frames = recorder.getFrames();
+        Assert.assertEquals(frames.size(), 3);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(frames.get(i).getOffsetMillis(), (i + 2) * 100L);
+            Assert.assertEquals(frames.get(i).getData()[0], (byte) (i + 2));
+        }
+    }
+
+    @Test(description = "Oldest frames are dropped while the buffer is over its byte cap")
+    public void evictsOldestFramesOverByteCap() {
+        FailureRecorder recorder = FailureRecorder.start(stubDriver(0, new AtomicInteger(), new AtomicInteger()),
+            false, 60_000, 10, 250);
+        recorder.stop();
+        for (int i = 0; i < 4; i++) {
+            recorder.add(new FailureRecorder.Frame(i, new byte[100]));
+        }
+
+        List<FailureRecorder.Frame> frames = recorder.getFrames();
+        Assert.assertEquals(frames.size(), 2);
+        Assert.assertEquals(frames.get(0).getOffsetMillis(), 2);
+        Assert.assertEquals(frames.get(1).getOffsetMillis(), 3);
+
+        // A single frame larger than the cap is still kept
+        recorder.add(new FailureRecorder.Frame(4, new byte[1000]));
+        Assert.assertEquals(recorder.getFrames().size(), 1);
+    }
+
+    @Test(description = "stop() waits for a running capture and no capture starts afterwards")
+    public void stopWaitsForRunningCapture() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger captures = new AtomicInteger();
+        FailureRecorder recorder = FailureRecorder.start(stubDriver(200, active, captures), false, 10, 10, Long.MAX_VALUE);
+        while (captures.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        recorder.stop();
+        Assert.assertEquals(active.get(), 0, "capture still running after stop()");
+        int capturesAtStop = captures.get();
+        Thread.sleep(300);
+        Assert.assertEquals(captures.get(), capturesAtStop, "capture started after stop()");
+    }
+
+    @Test(description = "Test commands through the recorder's driver never overlap a capture")
+    public void serializesTestCallsWithCaptures() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger captures = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        WebDriver stub = stubDriver(20, active, captures, maxActive);
+        FailureRecorder recorder = FailureRecorder.start(stub, false, 1, 10, Long.MAX_VALUE);
+        try {
+            WebDriver driver = recorder.getDriver();
+            Assert.assertTrue(driver instanceof JavascriptExecutor);
+            for (int i = 0; i < 20; i++) {
+                driver.getTitle();
+            }
+        } finally {
+            recorder.stop();
+        }
+        Assert.assertTrue(captures.get() > 0, "recorder never captured");
+        Assert.assertEquals(maxActive.get(), 1, "driver was called from two threads at once");
+    }
+
+    private static WebDriver stubDriver(long callMillis, AtomicInteger active, AtomicInteger captures) {
+        return stubDriver(callMillis, active, captures, new AtomicInteger());
+    }
+
+    /**
+     * Every call takes callMillis and tracks how many calls are in progress at once
+     */
+    private static WebDriver stubDriver(long callMillis, AtomicInteger active, AtomicInteger captures,
+                                        AtomicInteger maxActive) {
+        return (WebDriver) Proxy.newProxyInstance(FailureRecorderTest.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, TakesScreenshot.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "stub driver";
+                    default:
+                        break;
+                }
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(callMillis);
+                    if (method.getName().equals("getScreenshotAs")) {
+                        captures.incrementAndGet();
+                        return OutputType.BYTES.convertFromPngBytes(new byte[] {1, 2, 3});
+                    }
+                    return method.getName().equals("getTitle") ? "title" : null;
+                } finally {
+                    active.decrementAndGet();
+                }
+            });
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * NetworkBlocker against a fake DevTools session that records commands and fires events (no browser needed).
+ * Single-threaded because the methods share the fake session fields.
+ */
+@Test(singleThreaded = true)
+public class NetworkBlockerTest {
+    private final List<Command<?>> sent = new ArrayList<>();
+    private final Map<String, List<Consumer<Object>>> listeners = new HashMap<>();
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void createSession() {
+        sent.clear();
+        listeners.clear();
+        NetworkBlocker.resetSuite();
+        DevTools devTools = new FakeDevTools();
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class, HasDevTools.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getDevTools":
+                        return devTools;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    @Test(description = "URL patterns go to Network.setBlockedURLs, resource types to Fetch.enable patterns")
+    public void sendsBlockingCommands() {
+        NetworkBlocker blocker = NetworkBlocker.install(driver, List.of("*doubleclick.net*"), List.of("Image", "Font"));
+
+        Assert.assertNotNull(blocker);
+        Assert.assertSame(NetworkBlocker.forDriver(driver), blocker);
+        Assert.assertEquals(methods(), List.of("Network.enable", "Network.setBlockedURLs", "Fetch.enable"));
+        Assert.assertEquals(sent.get(1).getParams().get("urls"), List.of("*doubleclick.net*"));
+        Assert.assertEquals(sent.get(2).getParams().get("patterns"), List.of(
+            Map.of("urlPattern", "*", "resourceType", "Image", "requestStage", "Request"),
+            Map.of("urlPattern", "*", "resourceType", "Font", "requestStage", "Request")));
+    }
+
+    @Test(description = "Without resource types the Fetch domain is left alone")
+    public void skipsFetchWithoutResourceTypes() {
+        NetworkBlocker.install(driver, List.of("*google-analytics.com*"), List.of());
+
+        Assert.assertEquals(methods(), List.of("Network.enable", "Network.setBlockedURLs"));
+        Assert.assertFalse(listeners.containsKey("Fetch.requestPaused"));
+    }
+
+    @Test(description = "No rules, no DevTools session")
+    public void installsNothingWithoutRules() {
+        Assert.assertNull(NetworkBlocker.install(driver, List.of(), List.of()));
+        Assert.assertTrue(sent.isEmpty());
+    }
+
+    @Test(description = "A paused request of a blocked type is failed as BlockedByClient")
+    public void failsPausedRequests() {
+        NetworkBlocker.install(driver, List.of(), List.of("Image"));
+        sent.clear();
+
+        fire("Fetch.requestPaused", Map.of("requestId", "interception-7", "resourceType", "Image"));
+
+        Assert.assertEquals(methods(), List.of("Fetch.failRequest"));
+        Assert.assertEquals(sent.get(0).getParams(), Map.of("requestId", "interception-7", "errorReason", "BlockedByClient"));
+    }
+
+    @Test(description = "describeAndReset reports one test's traffic and starts the next test from zero")
+    public void resetsCountsPerTest() {
+        NetworkBlocker blocker = NetworkBlocker.install(driver, List.of("*doubleclick.net*"), List.of("Image"));
+
+        fire("Network.requestWillBeSent", Map.of("requestId", "1", "type", "Image"));
+        fire("Network.requestWillBeSent", Map.of("requestId", "2", "type", "Script"));
+        fire("Network.requestWillBeSent", Map.of("requestId", "3", "type", "XHR"));
+        fire("Network.loadingFinished", Map.of("requestId", "1", "encodedDataLength", 1048576.0));
+        fire("Network.loadingFailed", Map.of("requestId", "2", "type", "Script", "blockedReason", "inspector"));
+        fire("Network.loadingFailed", Map.of("requestId", "3", "type", "XHR", "errorText", "net::ERR_CONNECTION_RESET"));
+        fire("Fetch.requestPaused", Map.of("requestId", "interception-9", "resourceType", "Image"));
+
+        // The blocked image is sized by the loaded one (1 MB), the blocked script by the typical 20 KB
+        Assert.assertEquals(blocker.describeAndReset(),
+            "blocked 2 requests (Image 1, URL rule 1), ~1.0 MB saved (est.), 1 requests loaded, 1.0 MB transferred");
+        Assert.assertEquals(blocker.describeAndReset(),
+            "blocked 0 requests, ~0.0 MB saved (est.), 0 requests loaded, 0.0 MB transferred");
+        Assert.assertEquals(NetworkBlocker.describeSuite(),
+            "blocked 2 requests (Image 1, URL rule 1), ~1.0 MB saved (est.), 1 requests loaded, 1.0 MB transferred");
+    }
+
+    @Test(description = "Traffic before reset (e.g. a pool preload) is left out of the next test's counts")
+    public void resetDropsPreloadTraffic() {
+        NetworkBlocker blocker = NetworkBlocker.install(driver, List.of(), List.of("Font"));
+
+        fire("Network.requestWillBeSent", Map.of("requestId", "1", "type", "Document"));
+        fire("Network.loadingFinished", Map.of("requestId", "1", "encodedDataLength", 524288.0));
+        fire("Fetch.requestPaused", Map.of("requestId", "interception-1", "resourceType", "Font"));
+        blocker.reset();
+        fire("Fetch.requestPaused", Map.of("requestId", "interception-2", "resourceType", "Media"));
+
+        Assert.assertEquals(blocker.describeAndReset(),
+            "blocked 1 requests (Media 1), ~0.5 MB saved (est.), 0 requests loaded, 0.0 MB transferred");
+    }
+
+    private List<String> methods() {
+        List<String> methods = new ArrayList<>();
+        sent.forEach(command -> methods.add(command.getMethod()));
+        return methods;
+    }
+
+    private void fire(String event, Map<String, Object> params) {
+        listeners.getOrDefault(event, List.of()).forEach(handler -> handler.accept(params));
+    }
+
+    /**
+     * DevTools whose connection is never used: commands are recorded, listeners kept by event name
+     */
+    private class FakeDevTools extends DevTools {
+
+        FakeDevTools() {
+            super(input -> null, new Connection(stubHttpClient(), "ws://stub"));
+        }
+
+        @Override
+        public void createSessionIfThereIsNotOne() {
+        }
+
+        @Override
+        public <X> X send(Command<X> command) {
+            sent.add(command);
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> void addListener(Event<X> event, Consumer<X> handler) {
+            listeners.computeIfAbsent(event.getMethod(), key -> new ArrayList<>()).add((Consumer<Object>) handler);
+        }
+    }
+
+    private static HttpClient stubHttpClient() {
+        return (HttpClient) Proxy.newProxyInstance(NetworkBlockerTest.class.getClassLoader(),
+            new Class<?>[] {HttpClient.class}, (proxy, method, args) -> method.getName().equals("openSocket")
+                ? Proxy.newProxyInstance(NetworkBlockerTest.class.getClassLoader(), new Class<?>[] {WebSocket.class},
+                    (socket, socketMethod, socketArgs) -> null)
+                : null);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PageObjectValidator's class-file scan, against fixture page classes compiled with this test (never run)
+ */
+public class PageObjectValidatorTest {
+
+    @Test(description = "Direct element lookups and implicit-wait changes are flagged")
+    public void flagsImplicitWaitCalls() throws IOException {
+        Assert.assertEquals(scan(ImplicitWaitPage.class),
+            Set.of("WebDriver.findElement directly", "WebElement.findElements directly", "Timeouts.implicitlyWait"));
+    }
+
+    @Test(description = "PageFactory pages are flagged: their @FindBy proxies look elements up directly")
+    public void flagsPageFactoryPages() throws IOException {
+        Assert.assertEquals(scan(PageFactoryPage.class),
+            Set.of("@FindBy element proxies", "PageFactory.initElements"));
+    }
+
+    @Test(description = "A page that only waits through WaitHelper passes")
+    public void passesWaitHelperPage() throws IOException {
+        Assert.assertEquals(scan(WaitHelperPage.class), Set.of());
+    }
+
+    @Test(description = "The framework's own page objects pass the startup check")
+    public void passesFrameworkPages() {
+        Assert.assertEquals(PageObjectValidator.findViolations("org.example.pages"), List.of());
+    }
+
+    @Test(description = "Anything that is not a class file is rejected", expectedExceptions = IOException.class)
+    public void rejectsNonClassFiles() throws IOException {
+        PageObjectValidator.findImplicitWaitCalls(new DataInputStream(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+    }
+
+    private static Set<String> scan(Class<?> type) throws IOException {
+        try (InputStream input = type.getResourceAsStream(type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class")) {
+            Assert.assertNotNull(input, "class file of " + type.getName());
+            return PageObjectValidator.findImplicitWaitCalls(new DataInputStream(input));
+        }
+    }
+
+    static class ImplicitWaitPage {
+        private final WebDriver driver;
+
+        ImplicitWaitPage(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        List<WebElement> results() {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            return driver.findElement(By.id("results")).findElements(By.tagName("li"));
+        }
+    }
+
+    static class PageFactoryPage {
+        @FindBy(id = "results")
+        private WebElement results;
+
+        PageFactoryPage(WebDriver driver) {
+            PageFactory.initElements(driver, this);
+        }
+    }
+
+    static class WaitHelperPage {
+        private final WaitHelper waitHelper;
+
+        WaitHelperPage(WebDriver driver) {
+            this.waitHelper = new WaitHelper(driver);
+        }
+
+        WebElement results() {
+            return waitHelper.waitForElementToBeVisible(waitHelper.waitForPresenceOfElement(By.id("results")));
+        }
+    }
+}